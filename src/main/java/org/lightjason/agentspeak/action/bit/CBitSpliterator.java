@@ -0,0 +1,195 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * primitive spliterator over the backing words of a bit structure.
+ * The spliterator walks a bit range of the words and returns
+ * each bit as 0 / 1 or only the indices of the set bits,
+ * a split is always done at a word boundary, so parallel
+ * parts never share a word
+ */
+public final class CBitSpliterator implements Spliterator.OfInt
+{
+    /**
+     * words
+     */
+    private final long[] m_words;
+    /**
+     * flag to return the indices of the set bits
+     */
+    private final boolean m_indices;
+    /**
+     * end bit index (exclusive)
+     */
+    private final int m_end;
+    /**
+     * current bit index
+     */
+    private int m_index;
+
+    /**
+     * ctor
+     *
+     * @param p_words words
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @param p_indices returns the indices of the set bits instead of the bit values
+     */
+    public CBitSpliterator( @Nonnull final long[] p_words, @Nonnegative final int p_from, @Nonnegative final int p_to, final boolean p_indices )
+    {
+        m_words = p_words;
+        m_index = p_from;
+        m_end = p_to;
+        m_indices = p_indices;
+    }
+
+    /**
+     * creates a sequential stream
+     *
+     * @param p_words words
+     * @param p_size number of bits
+     * @param p_indices returns the indices of the set bits instead of the bit values
+     * @return int stream
+     */
+    @Nonnull
+    public static IntStream stream( @Nonnull final long[] p_words, @Nonnegative final int p_size, final boolean p_indices )
+    {
+        return StreamSupport.intStream( new CBitSpliterator( p_words, 0, p_size, p_indices ), false );
+    }
+
+    @Override
+    public boolean tryAdvance( @Nonnull final IntConsumer p_consumer )
+    {
+        if ( !m_indices )
+        {
+            if ( m_index >= m_end )
+                return false;
+
+            p_consumer.accept( (int) ( ( m_words[m_index >>> 6] >>> m_index ) & 1 ) );
+            m_index++;
+            return true;
+        }
+
+        final int l_next = this.next();
+        if ( l_next < 0 )
+            return false;
+
+        p_consumer.accept( l_next );
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining( @Nonnull final IntConsumer p_consumer )
+    {
+        if ( m_indices )
+        {
+            for ( int i = this.next(); i >= 0; i = this.next() )
+                p_consumer.accept( i );
+            return;
+        }
+
+        for ( ; m_index < m_end; m_index++ )
+            p_consumer.accept( (int) ( ( m_words[m_index >>> 6] >>> m_index ) & 1 ) );
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit()
+    {
+        final int l_middle = ( ( m_index + m_end ) >>> 1 ) & ~63;
+        if ( l_middle <= m_index || l_middle >= m_end )
+            return null;
+
+        final CBitSpliterator l_prefix = new CBitSpliterator( m_words, m_index, l_middle, m_indices );
+        m_index = l_middle;
+        return l_prefix;
+    }
+
+    @Override
+    public long estimateSize()
+    {
+        return Math.max( 0, m_end - m_index );
+    }
+
+    @Override
+    public int characteristics()
+    {
+        return m_indices
+               ? Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL
+               : Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator()
+    {
+        if ( m_indices )
+            return null;
+
+        throw new IllegalStateException();
+    }
+
+    /**
+     * returns the next set bit and moves the index behind it
+     *
+     * @return bit index or -1 if no bit is set
+     */
+    private int next()
+    {
+        if ( m_index >= m_end )
+            return -1;
+
+        int l_word = m_index >>> 6;
+        final int l_last = ( m_end - 1 ) >>> 6;
+        long l_bits = m_words[l_word] & ( -1L << m_index );
+
+        while ( l_bits == 0 )
+        {
+            if ( ++l_word > l_last )
+            {
+                m_index = m_end;
+                return -1;
+            }
+            l_bits = m_words[l_word];
+        }
+
+        final int l_next = ( l_word << 6 ) + Long.numberOfTrailingZeros( l_bits );
+        if ( l_next >= m_end )
+        {
+            m_index = m_end;
+            return -1;
+        }
+
+        m_index = l_next + 1;
+        return l_next;
+    }
+}
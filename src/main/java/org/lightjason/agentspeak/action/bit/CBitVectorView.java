@@ -0,0 +1,329 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitVector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * window of a dense bit vector.
+ * The view shares the words of the parent vector and stores
+ * only an offset and a length, so creating a view does not
+ * copy, bit i of the view is the bit offset + i of the parent,
+ * all changes are written into the parent, the changes are
+ * synchronized on the parent words, because a view can start
+ * and end within a word, which is shared with other views
+ */
+public final class CBitVectorView
+{
+    /**
+     * words of the parent vector
+     */
+    private final long[] m_words;
+    /**
+     * first bit index within the parent
+     */
+    private final int m_offset;
+    /**
+     * number of bits
+     */
+    private final int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_vector parent vector
+     * @param p_from first bit index within the parent (inclusive)
+     * @param p_to last bit index within the parent (inclusive)
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    public CBitVectorView( @Nonnull final BitVector p_vector, final int p_from, final int p_to )
+    {
+        if ( p_from < 0 || p_from > p_to + 1 || p_to >= p_vector.size() )
+            throw new IndexOutOfBoundsException( "from: " + p_from + ", to: " + p_to + ", size=" + p_vector.size() );
+
+        m_words = p_vector.elements();
+        m_offset = p_from;
+        m_size = p_to - p_from + 1;
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_words words of the parent vector
+     * @param p_offset first bit index within the parent
+     * @param p_size number of bits
+     */
+    private CBitVectorView( @Nonnull final long[] p_words, @Nonnegative final int p_offset, @Nonnegative final int p_size )
+    {
+        m_words = p_words;
+        m_offset = p_offset;
+        m_size = p_size;
+    }
+
+    /**
+     * number of bits
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * number of words
+     *
+     * @return words
+     */
+    @Nonnegative
+    public int words()
+    {
+        return ( m_size + 63 ) >>> 6;
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_index index
+     * @return bit value
+     */
+    public boolean get( @Nonnegative final int p_index )
+    {
+        this.checkindex( p_index );
+        return ( m_words[( m_offset + p_index ) >>> 6] & ( 1L << ( m_offset + p_index ) ) ) != 0;
+    }
+
+    /**
+     * sets a bit
+     *
+     * @param p_index index
+     * @param p_value bit value
+     */
+    public void put( @Nonnegative final int p_index, final boolean p_value )
+    {
+        this.checkindex( p_index );
+        synchronized ( m_words )
+        {
+            if ( p_value )
+                m_words[( m_offset + p_index ) >>> 6] |= 1L << ( m_offset + p_index );
+            else
+                m_words[( m_offset + p_index ) >>> 6] &= ~( 1L << ( m_offset + p_index ) );
+        }
+    }
+
+    /**
+     * reads bits by indices, the indices
+     * are read on the parent words
+     *
+     * @param p_indices bit indices
+     * @return bit values in the order of the indices
+     * @throws IndexOutOfBoundsException on indices outside the view
+     * @see CKernel#get(long[], int, int[])
+     */
+    @Nonnull
+    public boolean[] get( @Nonnull final int[] p_indices )
+    {
+        return CKernel.get( m_words, m_offset + m_size, this.shift( p_indices ) );
+    }
+
+    /**
+     * sets or clears bits by indices, the bits are grouped
+     * by the parent words and changed at once
+     *
+     * @param p_indices bit indices
+     * @param p_value bit value
+     * @throws IndexOutOfBoundsException on indices outside the view
+     * @see CKernel#apply(long[], int, long[], boolean)
+     */
+    public void apply( @Nonnull final int[] p_indices, final boolean p_value )
+    {
+        final long[] l_masks = CKernel.masks( this.shift( p_indices ) );
+        synchronized ( m_words )
+        {
+            CKernel.apply( m_words, m_offset + m_size, l_masks, p_value );
+        }
+    }
+
+    /**
+     * reads words, the words are shifted
+     * to the start of the view
+     *
+     * @param p_from first word index
+     * @param p_target target array
+     * @param p_offset offset within the target
+     * @param p_length number of words
+     */
+    public void read( @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        for ( int i = 0; i < p_length; i++ )
+        {
+            final long l_index = ( p_from + i ) << 6;
+            p_target[p_offset + i] = CKernel.bits( m_words, m_offset + l_index, (int) Math.min( 64, m_size - l_index ) );
+        }
+    }
+
+    /**
+     * writes words, bits behind
+     * the size are ignored
+     *
+     * @param p_from first word index
+     * @param p_source source array
+     * @param p_offset offset within the source
+     * @param p_length number of words
+     */
+    public void write( @Nonnegative final long p_from, @Nonnull final long[] p_source, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        if ( p_length == 0 )
+            return;
+
+        final int l_from = (int) ( m_offset + ( p_from << 6 ) );
+        final int l_to = (int) Math.min( m_offset + m_size, l_from + ( (long) p_length << 6 ) );
+
+        synchronized ( m_words )
+        {
+            CKernel.range( m_words, l_from, l_to, ( i, j ) -> i & ~j );
+            for ( int i = 0; i < p_length; i++ )
+                CKernel.put( m_words, l_from + ( (long) i << 6 ), p_source[p_offset + i], Math.min( 64, l_to - l_from - ( i << 6 ) ) );
+        }
+    }
+
+    /**
+     * number of set bits
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    public int cardinality()
+    {
+        return CKernel.cardinality( m_words, m_offset, m_offset + m_size );
+    }
+
+    /**
+     * logical not of the bits
+     * within the view
+     */
+    public void not()
+    {
+        synchronized ( m_words )
+        {
+            CKernel.range( m_words, m_offset, m_offset + m_size, ( i, j ) -> i ^ j );
+        }
+    }
+
+    /**
+     * copies the bits into a
+     * new dense bit vector
+     *
+     * @return dense bit vector
+     */
+    @Nonnull
+    public BitVector copy()
+    {
+        final BitVector l_result = new BitVector( m_size );
+        CKernel.copy( m_words, m_offset, l_result.elements(), m_size );
+        return l_result;
+    }
+
+    /**
+     * creates a view within the view,
+     * which shares the parent words
+     *
+     * @param p_from first bit index within the view (inclusive)
+     * @param p_to last bit index within the view (inclusive)
+     * @return view
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    @Nonnull
+    public CBitVectorView view( final int p_from, final int p_to )
+    {
+        if ( p_from < 0 || p_from > p_to + 1 || p_to >= m_size )
+            throw new IndexOutOfBoundsException( "from: " + p_from + ", to: " + p_to + ", size=" + m_size );
+
+        return new CBitVectorView( m_words, m_offset + p_from, p_to - p_from + 1 );
+    }
+
+    /**
+     * parent words
+     *
+     * @return words
+     */
+    @Nonnull
+    final long[] elements()
+    {
+        return m_words;
+    }
+
+    /**
+     * first bit index within the parent
+     *
+     * @return offset
+     */
+    @Nonnegative
+    final int offset()
+    {
+        return m_offset;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.copy().toString();
+    }
+
+    /**
+     * shifts indices to the parent
+     *
+     * @param p_indices view indices
+     * @return parent indices
+     * @throws IndexOutOfBoundsException on indices outside the view
+     */
+    @Nonnull
+    private int[] shift( @Nonnull final int[] p_indices )
+    {
+        final int[] l_indices = new int[p_indices.length];
+        for ( int i = 0; i < p_indices.length; i++ )
+        {
+            this.checkindex( p_indices[i] );
+            l_indices[i] = m_offset + p_indices[i];
+        }
+        return l_indices;
+    }
+
+    /**
+     * checks an index
+     *
+     * @param p_index index
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    private void checkindex( final int p_index )
+    {
+        if ( p_index < 0 || p_index >= m_size )
+            throw new IndexOutOfBoundsException( "Attempted to access at index=" + p_index );
+    }
+}
@@ -0,0 +1,1096 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitVector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+
+
+/**
+ * word-level kernels for bit structures.
+ * The kernels work directly on the backing 64-bit
+ * words of the Colt structures, bit i is stored in
+ * word i / 64 at position i % 64, bits behind the
+ * size within the last word are undefined and will
+ * be masked
+ */
+public final class CKernel
+{
+    /**
+     * number of words of a tile pair, which should
+     * be cache-resident (128 KiB)
+     */
+    private static final int TILEWORDS = 16384;
+    /**
+     * maximum number of vectors within a tile
+     */
+    private static final int TILESIZE = 64;
+    /**
+     * number of words between two checks
+     * of the early termination
+     */
+    private static final int BOUNDWORDS = 8;
+    /**
+     * number of candidates within a partition
+     */
+    private static final int PARTITIONSIZE = 512;
+    /**
+     * number of rows of a block of a matrix product,
+     * must be a multiple of 64
+     */
+    private static final int ROWBLOCK = 512;
+    /**
+     * number of bits of a table of the matrix product
+     */
+    private static final int TABLEBITS = 8;
+    /**
+     * number of rows of a block of the transitive closure
+     */
+    private static final int CLOSUREBLOCK = 256;
+    /**
+     * number of rows of a block of the gaussian elimination
+     */
+    private static final int ELIMINATIONBLOCK = 256;
+    /**
+     * minimal number of bits for a parallel conversion
+     */
+    private static final int PARALLELBITS = 65536;
+    /**
+     * minimal number of words, which are combined
+     * within a step of the breadth-first search,
+     * for a parallel step
+     */
+    private static final int PARALLELWORDS = 1024;
+
+    /**
+     * ctor
+     */
+    private CKernel()
+    {
+    }
+
+    /**
+     * checks the size of a target, the target
+     * cannot be larger than the source
+     *
+     * @param p_target size of the target vector
+     * @param p_source size of the source vector
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    public static void checksize( @Nonnegative final long p_target, @Nonnegative final long p_source )
+    {
+        if ( p_target > p_source )
+            throw new IllegalArgumentException( "Incompatible sizes: size=" + p_target + ", other.size()=" + p_source );
+    }
+
+    /**
+     * mask of the valid bits within the last word
+     *
+     * @param p_size number of bits
+     * @return mask, all bits are set if the size is a multiple of 64
+     */
+    public static long tailmask( @Nonnegative final int p_size )
+    {
+        return ( p_size & 63 ) == 0 ? -1L : ( 1L << ( p_size & 63 ) ) - 1;
+    }
+
+    /**
+     * number of set bits within a bit range
+     *
+     * @param p_words words
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @return number of set bits
+     */
+    @Nonnegative
+    public static int cardinality( @Nonnull final long[] p_words, @Nonnegative final int p_from, @Nonnegative final int p_to )
+    {
+        if ( p_from >= p_to )
+            return 0;
+
+        final int l_first = p_from >>> 6;
+        final int l_last = ( p_to - 1 ) >>> 6;
+        final long l_firstmask = -1L << ( p_from & 63 );
+        final long l_lastmask = -1L >>> ( 63 - ( ( p_to - 1 ) & 63 ) );
+
+        if ( l_first == l_last )
+            return Long.bitCount( p_words[l_first] & l_firstmask & l_lastmask );
+
+        int l_count = Long.bitCount( p_words[l_first] & l_firstmask ) + Long.bitCount( p_words[l_last] & l_lastmask );
+        for ( int i = l_first + 1; i < l_last; i++ )
+            l_count += Long.bitCount( p_words[i] );
+
+        return l_count;
+    }
+
+    /**
+     * groups bit indices by words, the indices are
+     * sorted and all bits of a word are combined
+     * into a single mask
+     *
+     * @param p_indices bit indices
+     * @return pairs of word index and mask in ascending word order
+     * @throws IndexOutOfBoundsException on negative indices
+     */
+    @Nonnull
+    public static long[] masks( @Nonnull final int[] p_indices )
+    {
+        final int[] l_indices = p_indices.clone();
+        Arrays.sort( l_indices );
+        if ( l_indices.length > 0 && l_indices[0] < 0 )
+            throw new IndexOutOfBoundsException( "Attempted to access index " + l_indices[0] );
+
+        final long[] l_masks = new long[2 * l_indices.length];
+        int l_count = -2;
+        for ( final int i : l_indices )
+        {
+            if ( l_count < 0 || l_masks[l_count] != i >>> 6 )
+            {
+                l_count += 2;
+                l_masks[l_count] = i >>> 6;
+            }
+            l_masks[l_count + 1] |= 1L << i;
+        }
+
+        return Arrays.copyOf( l_masks, l_count + 2 );
+    }
+
+    /**
+     * sets or clears grouped bits
+     *
+     * @param p_words words
+     * @param p_size number of bits
+     * @param p_masks pairs of word index and mask
+     * @param p_value bit value
+     * @throws IndexOutOfBoundsException if a bit is behind the size
+     * @see CKernel#masks(int[])
+     */
+    public static void apply( @Nonnull final long[] p_words, @Nonnegative final int p_size, @Nonnull final long[] p_masks, final boolean p_value )
+    {
+        if ( p_masks.length == 0 )
+            return;
+
+        final long l_last = ( p_masks[p_masks.length - 2] << 6 ) + 63 - Long.numberOfLeadingZeros( p_masks[p_masks.length - 1] );
+        if ( l_last >= p_size )
+            throw new IndexOutOfBoundsException( "Attempted to access index " + l_last + ", size " + p_size );
+
+        for ( int i = 0; i < p_masks.length; i += 2 )
+            if ( p_value )
+                p_words[(int) p_masks[i]] |= p_masks[i + 1];
+            else
+                p_words[(int) p_masks[i]] &= ~p_masks[i + 1];
+    }
+
+    /**
+     * reads bits by indices, the indices are sorted,
+     * so each word is read once
+     *
+     * @param p_words words
+     * @param p_size number of bits
+     * @param p_indices bit indices
+     * @return bit values in the order of the indices
+     * @throws IndexOutOfBoundsException on indices outside the size
+     */
+    @Nonnull
+    public static boolean[] get( @Nonnull final long[] p_words, @Nonnegative final int p_size, @Nonnull final int[] p_indices )
+    {
+        final long[] l_keys = new long[p_indices.length];
+        for ( int i = 0; i < p_indices.length; i++ )
+        {
+            if ( p_indices[i] < 0 || p_indices[i] >= p_size )
+                throw new IndexOutOfBoundsException( "Attempted to access index " + p_indices[i] + ", size " + p_size );
+            l_keys[i] = (long) p_indices[i] << 32 | i;
+        }
+        Arrays.sort( l_keys );
+
+        final boolean[] l_result = new boolean[p_indices.length];
+        int l_word = -1;
+        long l_bits = 0;
+        for ( final long i : l_keys )
+        {
+            final int l_index = (int) ( i >>> 32 );
+            if ( l_index >>> 6 != l_word )
+            {
+                l_word = l_index >>> 6;
+                l_bits = p_words[l_word];
+            }
+            l_result[(int) i] = ( ( l_bits >>> l_index ) & 1 ) != 0;
+        }
+
+        return l_result;
+    }
+
+    /**
+     * applies an operator on a bit range, the first and
+     * last word are changed with an edge mask, all words
+     * between are changed with a full mask
+     *
+     * @param p_words words
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @param p_operator operator, which gets the word and the mask of the changed bits
+     */
+    public static void range( @Nonnull final long[] p_words, @Nonnegative final int p_from, @Nonnegative final int p_to,
+                              @Nonnull final LongBinaryOperator p_operator )
+    {
+        if ( p_from >= p_to )
+            return;
+
+        final int l_first = p_from >>> 6;
+        final int l_last = ( p_to - 1 ) >>> 6;
+        final long l_firstmask = -1L << ( p_from & 63 );
+        final long l_lastmask = -1L >>> ( 63 - ( ( p_to - 1 ) & 63 ) );
+
+        if ( l_first == l_last )
+        {
+            p_words[l_first] = p_operator.applyAsLong( p_words[l_first], l_firstmask & l_lastmask );
+            return;
+        }
+
+        p_words[l_first] = p_operator.applyAsLong( p_words[l_first], l_firstmask );
+        for ( int i = l_first + 1; i < l_last; i++ )
+            p_words[i] = p_operator.applyAsLong( p_words[i], -1L );
+        p_words[l_last] = p_operator.applyAsLong( p_words[l_last], l_lastmask );
+    }
+
+    /**
+     * reads up to 64 bits starting at any bit index
+     *
+     * @param p_words words
+     * @param p_from first bit index
+     * @param p_length number of bits (at most 64)
+     * @return bits, the first bit is stored at position zero
+     */
+    public static long bits( @Nonnull final long[] p_words, @Nonnegative final long p_from, @Nonnegative final int p_length )
+    {
+        if ( p_length == 0 )
+            return 0;
+
+        final int l_word = (int) ( p_from >>> 6 );
+        final int l_shift = (int) ( p_from & 63 );
+
+        long l_bits = p_words[l_word] >>> l_shift;
+        if ( l_shift != 0 && l_shift + p_length > 64 )
+            l_bits |= p_words[l_word + 1] << ( 64 - l_shift );
+
+        return l_bits & CKernel.tailmask( p_length );
+    }
+
+    /**
+     * copies a bit range with a shifted word copy,
+     * the range is stored at the beginning of the target
+     *
+     * @param p_source source words
+     * @param p_from first bit index of the source
+     * @param p_target target words
+     * @param p_length number of bits
+     */
+    public static void copy( @Nonnull final long[] p_source, @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_length )
+    {
+        CKernel.copy( p_source, p_from, p_target, 0, p_length );
+    }
+
+    /**
+     * copies a bit range with a shifted word copy,
+     * the range is stored at a word of the target
+     *
+     * @param p_source source words
+     * @param p_from first bit index of the source
+     * @param p_target target words
+     * @param p_offset first word of the target
+     * @param p_length number of bits
+     */
+    public static void copy( @Nonnull final long[] p_source, @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_offset,
+                             @Nonnegative final int p_length )
+    {
+        if ( p_length == 0 )
+            return;
+
+        final int l_first = (int) ( p_from >>> 6 );
+        final int l_shift = (int) ( p_from & 63 );
+        final int l_words = ( p_length + 63 ) >>> 6;
+
+        if ( l_shift == 0 )
+            System.arraycopy( p_source, l_first, p_target, p_offset, l_words );
+        else
+            for ( int i = 0; i < l_words; i++ )
+                p_target[p_offset + i] = l_first + i + 1 < p_source.length
+                                         ? ( p_source[l_first + i] >>> l_shift ) | ( p_source[l_first + i + 1] << ( 64 - l_shift ) )
+                                         : p_source[l_first + i] >>> l_shift;
+
+        p_target[p_offset + l_words - 1] &= CKernel.tailmask( p_length );
+    }
+
+    /**
+     * transposes in-place a 64x64 bit block, bit c of word r
+     * is swapped with bit r of word c, the quadrants are
+     * swapped recursively with masks (32, 16, ... , 1)
+     *
+     * @param p_block block words, row r is stored at offset + r
+     * @param p_offset offset of the block
+     */
+    public static void transpose( @Nonnull final long[] p_block, @Nonnegative final int p_offset )
+    {
+        long l_mask = 0xFFFFFFFFL;
+        for ( int j = 32; j != 0; j >>>= 1, l_mask ^= l_mask << j )
+            for ( int k = 0; k < 64; k = ( ( k | j ) + 1 ) & ~j )
+            {
+                final long l_swap = ( ( p_block[p_offset + k] >>> j ) ^ p_block[p_offset + ( k | j )] ) & l_mask;
+                p_block[p_offset + k] ^= l_swap << j;
+                p_block[p_offset + ( k | j )] ^= l_swap;
+            }
+    }
+
+    /**
+     * writes up to 64 bits starting at any bit index,
+     * the bits are combined with a disjunction, so the
+     * target range must be cleared
+     *
+     * @param p_words words
+     * @param p_from first bit index
+     * @param p_bits bits, the first bit is stored at position zero
+     * @param p_length number of bits (at most 64)
+     */
+    public static void put( @Nonnull final long[] p_words, @Nonnegative final long p_from, final long p_bits, @Nonnegative final int p_length )
+    {
+        if ( p_length == 0 )
+            return;
+
+        final int l_word = (int) ( p_from >>> 6 );
+        final int l_shift = (int) ( p_from & 63 );
+        final long l_bits = p_bits & CKernel.tailmask( p_length );
+
+        p_words[l_word] |= l_bits << l_shift;
+        if ( l_shift != 0 && l_shift + p_length > 64 )
+            p_words[l_word + 1] |= l_bits >>> ( 64 - l_shift );
+    }
+
+    /**
+     * transposes a row-major bit matrix, the result is split
+     * into block rows of 64 rows, which are word-aligned and
+     * can be calculated in parallel, each block row is filled by
+     * 64x64 block transpositions
+     *
+     * @param p_source source words
+     * @param p_columns number of source columns
+     * @param p_rows number of source rows
+     * @param p_target cleared target words with p_rows columns and p_columns rows
+     * @param p_parallel parallel execution
+     */
+    public static void transpose( @Nonnull final long[] p_source, @Nonnegative final int p_columns, @Nonnegative final int p_rows,
+                                  @Nonnull final long[] p_target, final boolean p_parallel )
+    {
+        final IntStream l_stream = IntStream.range( 0, ( p_columns + 63 ) >>> 6 );
+        ( p_parallel ? l_stream.parallel() : l_stream )
+            .forEach( i ->
+            {
+                final long[] l_block = new long[64];
+                final int l_column = i << 6;
+                final int l_columns = Math.min( 64, p_columns - l_column );
+
+                for ( int b = 0; b < p_rows; b += 64 )
+                {
+                    final int l_rows = Math.min( 64, p_rows - b );
+                    for ( int r = 0; r < 64; r++ )
+                        l_block[r] = r < l_rows ? CKernel.bits( p_source, (long) ( b + r ) * p_columns + l_column, l_columns ) : 0;
+
+                    CKernel.transpose( l_block, 0 );
+
+                    for ( int c = 0; c < l_columns; c++ )
+                        CKernel.put( p_target, (long) ( l_column + c ) * p_rows + b, l_block[c], l_rows );
+                }
+            } );
+    }
+
+    /**
+     * indices of the set bits
+     *
+     * @param p_words words
+     * @param p_size number of bits
+     * @return ascending indices
+     */
+    @Nonnull
+    public static int[] indices( @Nonnull final long[] p_words, @Nonnegative final int p_size )
+    {
+        final int l_words = ( p_size + 63 ) >>> 6;
+        final int[] l_indices = new int[l_words == 0 ? 0 : CKernel.cardinality( p_words, 0, p_size )];
+
+        int l_count = 0;
+        for ( int i = 0; i < l_words; i++ )
+            for ( long l_word = i == l_words - 1 ? p_words[i] & CKernel.tailmask( p_size ) : p_words[i]; l_word != 0; l_word &= l_word - 1 )
+                l_indices[l_count++] = ( i << 6 ) + Long.numberOfTrailingZeros( l_word );
+
+        return l_indices;
+    }
+
+    /**
+     * converts bits into a double array, the array
+     * is filled only at the indices of the set bits
+     *
+     * @param p_words words
+     * @param p_size number of bits
+     * @param p_parallel fills the array in parallel on large sizes
+     * @return double array with 0 / 1 values
+     */
+    @Nonnull
+    public static double[] todouble( @Nonnull final long[] p_words, @Nonnegative final int p_size, final boolean p_parallel )
+    {
+        final double[] l_values = new double[p_size];
+        final IntStream l_indices = CBitSpliterator.stream( p_words, p_size, true );
+
+        ( p_parallel && p_size >= PARALLELBITS ? l_indices.parallel() : l_indices ).forEach( i -> l_values[i] = 1 );
+        return l_values;
+    }
+
+    /**
+     * packs bits into words, each word is packed
+     * independently, so large sizes can be packed in parallel
+     *
+     * @param p_size number of bits
+     * @param p_bit bit value of an index
+     * @param p_parallel packs the words in parallel on large sizes
+     * @return words
+     */
+    @Nonnull
+    public static long[] pack( @Nonnegative final int p_size, @Nonnull final IntPredicate p_bit, final boolean p_parallel )
+    {
+        final long[] l_words = new long[( p_size + 63 ) >>> 6];
+        final IntStream l_stream = IntStream.range( 0, l_words.length );
+
+        ( p_parallel && p_size >= PARALLELBITS ? l_stream.parallel() : l_stream ).forEach( i ->
+        {
+            long l_word = 0;
+            for ( int j = 0; j < Math.min( 64, p_size - ( i << 6 ) ); j++ )
+                if ( p_bit.test( ( i << 6 ) + j ) )
+                    l_word |= 1L << j;
+            l_words[i] = l_word;
+        } );
+
+        return l_words;
+    }
+
+    /**
+     * copies the rows of a row-major bit matrix, so
+     * that each row starts at a word
+     *
+     * @param p_source source words
+     * @param p_columns number of columns
+     * @param p_rows number of rows
+     * @return aligned rows, row r starts at word r * words( columns )
+     */
+    @Nonnull
+    public static long[] align( @Nonnull final long[] p_source, @Nonnegative final int p_columns, @Nonnegative final int p_rows )
+    {
+        final int l_words = ( p_columns + 63 ) >>> 6;
+        final long[] l_rows = new long[p_rows * l_words];
+        IntStream.range( 0, p_rows ).forEach( i -> CKernel.copy( p_source, (long) i * p_columns, l_rows, i * l_words, p_columns ) );
+        return l_rows;
+    }
+
+    /**
+     * copies aligned rows back into a row-major bit matrix
+     *
+     * @param p_rows aligned rows
+     * @param p_columns number of columns
+     * @param p_count number of rows
+     * @param p_target cleared target words
+     */
+    public static void unalign( @Nonnull final long[] p_rows, @Nonnegative final int p_columns, @Nonnegative final int p_count, @Nonnull final long[] p_target )
+    {
+        final int l_words = ( p_columns + 63 ) >>> 6;
+        for ( int r = 0; r < p_count; r++ )
+            for ( int w = 0; w < l_words; w++ )
+                CKernel.put( p_target, (long) r * p_columns + ( w << 6 ), p_rows[r * l_words + w], Math.min( 64, p_columns - ( w << 6 ) ) );
+    }
+
+    /**
+     * transitive closure of an adjacency matrix with the
+     * warshall algorithm, for each intermediate node k all
+     * rows, which contain k, are combined with row k, the rows
+     * are split into blocks, which are calculated in parallel,
+     * if there is more than one block
+     *
+     * @param p_rows aligned rows of the adjacency matrix, will be modified
+     * @param p_size number of nodes
+     * @param p_parallel parallel execution
+     * @see <a href="https://en.wikipedia.org/wiki/Floyd%E2%80%93Warshall_algorithm"></a>
+     */
+    public static void closure( @Nonnull final long[] p_rows, @Nonnegative final int p_size, final boolean p_parallel )
+    {
+        final int l_words = ( p_size + 63 ) >>> 6;
+        final int l_blocks = ( p_size + CLOSUREBLOCK - 1 ) / CLOSUREBLOCK;
+        final boolean l_parallel = p_parallel && l_blocks > 1;
+
+        for ( int k = 0; k < p_size; k++ )
+        {
+            final int l_node = k;
+            final int l_word = k >>> 6;
+            final long l_bit = 1L << k;
+
+            final IntStream l_stream = IntStream.range( 0, l_blocks );
+            ( l_parallel ? l_stream.parallel() : l_stream )
+                .forEach( b ->
+                {
+                    for ( int i = b * CLOSUREBLOCK; i < Math.min( p_size, ( b + 1 ) * CLOSUREBLOCK ); i++ )
+                        if ( i != l_node && ( p_rows[i * l_words + l_word] & l_bit ) != 0 )
+                            ESemiring.BOOLEAN.add( p_rows, i * l_words, p_rows, l_node * l_words, l_words );
+                } );
+        }
+    }
+
+    /**
+     * multi-source breadth-first search on an adjacency matrix,
+     * the next frontier is the disjunction of the rows of the
+     * current frontier without the visited nodes, the rows of
+     * a large frontier are combined in parallel
+     *
+     * @param p_rows aligned rows of the adjacency matrix
+     * @param p_size number of nodes
+     * @param p_sources source nodes
+     * @param p_depth maximum number of steps
+     * @param p_parallel parallel execution
+     * @return words of all visited nodes
+     */
+    @Nonnull
+    public static long[] reachable( @Nonnull final long[] p_rows, @Nonnegative final int p_size, @Nonnull final long[] p_sources, @Nonnegative final int p_depth,
+                                    final boolean p_parallel )
+    {
+        final int l_words = ( p_size + 63 ) >>> 6;
+        final long[] l_visited = Arrays.copyOf( p_sources, l_words );
+        if ( l_words > 0 )
+            l_visited[l_words - 1] &= CKernel.tailmask( p_size );
+
+        long[] l_frontier = l_visited.clone();
+        for ( int d = 0; d < p_depth; d++ )
+        {
+            final int[] l_nodes = CKernel.indices( l_frontier, p_size );
+            if ( l_nodes.length == 0 )
+                break;
+
+            final IntStream l_stream = Arrays.stream( l_nodes );
+            l_frontier = ( p_parallel && (long) l_nodes.length * l_words >= PARALLELWORDS ? l_stream.parallel() : l_stream )
+                .collect(
+                    () -> new long[l_words],
+                    ( i, j ) -> ESemiring.BOOLEAN.add( i, 0, p_rows, j * l_words, l_words ),
+                    ( i, j ) -> ESemiring.BOOLEAN.add( i, 0, j, 0, l_words )
+                );
+
+            for ( int i = 0; i < l_words; i++ )
+            {
+                l_frontier[i] &= ~l_visited[i];
+                l_visited[i] |= l_frontier[i];
+            }
+        }
+
+        return l_visited;
+    }
+
+    /**
+     * gaussian elimination over gf(2), the rows are transformed
+     * into the reduced row echelon form, for each pivot the rows
+     * are combined with a word-level exclusive disjunction, the
+     * rows are split into blocks, which are calculated in parallel,
+     * if there is more than one block
+     *
+     * @param p_rows aligned rows, will be modified
+     * @param p_words number of words of each row
+     * @param p_count number of rows
+     * @param p_columns number of columns, which can be pivots
+     * @param p_parallel parallel execution
+     * @return ascending pivot columns, the pivot of row i is stored at index i
+     * @see <a href="https://en.wikipedia.org/wiki/Gaussian_elimination"></a>
+     */
+    @Nonnull
+    public static int[] eliminate( @Nonnull final long[] p_rows, @Nonnegative final int p_words, @Nonnegative final int p_count, @Nonnegative final int p_columns,
+                                   final boolean p_parallel )
+    {
+        final int[] l_pivots = new int[Math.min( p_count, p_columns )];
+        final long[] l_swap = new long[p_words];
+        final int l_blocks = ( p_count + ELIMINATIONBLOCK - 1 ) / ELIMINATIONBLOCK;
+        final boolean l_parallel = p_parallel && l_blocks > 1;
+
+        int l_rank = 0;
+        for ( int c = 0; c < p_columns && l_rank < p_count; c++ )
+        {
+            final int l_word = c >>> 6;
+            final long l_bit = 1L << c;
+
+            int l_pivot = l_rank;
+            while ( l_pivot < p_count && ( p_rows[l_pivot * p_words + l_word] & l_bit ) == 0 )
+                l_pivot++;
+            if ( l_pivot == p_count )
+                continue;
+
+            if ( l_pivot != l_rank )
+            {
+                System.arraycopy( p_rows, l_pivot * p_words, l_swap, 0, p_words );
+                System.arraycopy( p_rows, l_rank * p_words, p_rows, l_pivot * p_words, p_words );
+                System.arraycopy( l_swap, 0, p_rows, l_rank * p_words, p_words );
+            }
+
+            // the pivot row is zero in front of the pivot word
+            final int l_row = l_rank;
+            final IntStream l_stream = IntStream.range( 0, l_blocks );
+            ( l_parallel ? l_stream.parallel() : l_stream )
+                .forEach( b ->
+                {
+                    for ( int i = b * ELIMINATIONBLOCK; i < Math.min( p_count, ( b + 1 ) * ELIMINATIONBLOCK ); i++ )
+                        if ( i != l_row && ( p_rows[i * p_words + l_word] & l_bit ) != 0 )
+                            ESemiring.GF2.add( p_rows, i * p_words + l_word, p_rows, l_row * p_words + l_word, p_words - l_word );
+                } );
+
+            l_pivots[l_rank++] = c;
+        }
+
+        return Arrays.copyOf( l_pivots, l_rank );
+    }
+
+    /**
+     * number of set bits of each row of a row-major bit matrix
+     *
+     * @param p_words words
+     * @param p_columns number of columns
+     * @param p_rows number of rows
+     * @param p_parallel parallel execution
+     * @return counts of each row
+     */
+    @Nonnull
+    public static int[] rowcardinality( @Nonnull final long[] p_words, @Nonnegative final int p_columns, @Nonnegative final int p_rows, final boolean p_parallel )
+    {
+        final IntStream l_stream = IntStream.range( 0, p_rows );
+        return ( p_parallel ? l_stream.parallel() : l_stream )
+            .map( i -> CKernel.cardinality( p_words, i * p_columns, ( i + 1 ) * p_columns ) )
+            .toArray();
+    }
+
+    /**
+     * number of set bits of each column of a row-major bit matrix,
+     * the columns are split into groups of 64, which can be counted
+     * in parallel, each group adds the row words into bit-sliced
+     * vertical counters, plane j stores bit j of the 64 counters,
+     * so a row needs only a carry chain over the planes
+     *
+     * @param p_words words
+     * @param p_columns number of columns
+     * @param p_rows number of rows
+     * @param p_parallel parallel execution
+     * @return counts of each column
+     */
+    @Nonnull
+    public static int[] columncardinality( @Nonnull final long[] p_words, @Nonnegative final int p_columns, @Nonnegative final int p_rows,
+                                           final boolean p_parallel )
+    {
+        final int[] l_counts = new int[p_columns];
+
+        final IntStream l_stream = IntStream.range( 0, ( p_columns + 63 ) >>> 6 );
+        ( p_parallel ? l_stream.parallel() : l_stream )
+            .forEach( i ->
+            {
+                final long[] l_planes = new long[Integer.SIZE];
+                final int l_column = i << 6;
+                final int l_length = Math.min( 64, p_columns - l_column );
+
+                for ( int r = 0; r < p_rows; r++ )
+                {
+                    long l_carry = CKernel.bits( p_words, (long) r * p_columns + l_column, l_length );
+                    for ( int j = 0; l_carry != 0; j++ )
+                    {
+                        final long l_next = l_planes[j] & l_carry;
+                        l_planes[j] ^= l_carry;
+                        l_carry = l_next;
+                    }
+                }
+
+                for ( int c = 0; c < l_length; c++ )
+                    for ( int j = 0; j < Integer.SIZE; j++ )
+                        l_counts[l_column + c] |= (int) ( ( l_planes[j] >>> c ) & 1 ) << j;
+            } );
+
+        return l_counts;
+    }
+
+    /**
+     * product of two row-major bit matrices with the method of
+     * four russians, the rows of the left matrix are split into
+     * blocks, which can be calculated in parallel, within a block
+     * the inner dimension is split into chunks of 8 bits, for each
+     * chunk all 256 sums of the right rows are tabled, so each left
+     * row adds a single table row per chunk
+     *
+     * @param p_left left words
+     * @param p_inner number of left columns and right rows
+     * @param p_rows number of left rows
+     * @param p_right right words
+     * @param p_columns number of right columns
+     * @param p_target cleared target words with p_columns columns and p_rows rows
+     * @param p_semiring semiring
+     * @param p_parallel parallel execution
+     * @see <a href="https://en.wikipedia.org/wiki/Method_of_Four_Russians"></a>
+     */
+    public static void multiply( @Nonnull final long[] p_left, @Nonnegative final int p_inner, @Nonnegative final int p_rows,
+                                 @Nonnull final long[] p_right, @Nonnegative final int p_columns,
+                                 @Nonnull final long[] p_target, @Nonnull final ESemiring p_semiring, final boolean p_parallel )
+    {
+        final long[] l_right = CKernel.align( p_right, p_columns, p_inner );
+
+        final IntStream l_stream = IntStream.range( 0, ( p_rows + ROWBLOCK - 1 ) / ROWBLOCK );
+        ( p_parallel ? l_stream.parallel() : l_stream )
+            .forEach( i -> CKernel.multiplyblock( p_left, p_inner, i * ROWBLOCK, Math.min( ROWBLOCK, p_rows - i * ROWBLOCK ),
+                                                  l_right, p_columns, p_target, p_semiring ) );
+    }
+
+    /**
+     * calculates a row block of a matrix product
+     *
+     * @param p_left left words
+     * @param p_inner number of left columns and right rows
+     * @param p_first first row of the block
+     * @param p_rows number of rows of the block
+     * @param p_right word-aligned right rows
+     * @param p_columns number of right columns
+     * @param p_target target words
+     * @param p_semiring semiring
+     */
+    private static void multiplyblock( @Nonnull final long[] p_left, @Nonnegative final int p_inner,
+                                       @Nonnegative final int p_first, @Nonnegative final int p_rows,
+                                       @Nonnull final long[] p_right, @Nonnegative final int p_columns,
+                                       @Nonnull final long[] p_target, @Nonnull final ESemiring p_semiring )
+    {
+        final int l_words = ( p_columns + 63 ) >>> 6;
+        final long[] l_result = new long[p_rows * l_words];
+        final long[] l_table = new long[( 1 << TABLEBITS ) * l_words];
+
+        for ( int c = 0; c < p_inner; c += TABLEBITS )
+        {
+            final int l_length = Math.min( TABLEBITS, p_inner - c );
+
+            for ( int i = 1; i < 1 << l_length; i++ )
+            {
+                System.arraycopy( l_table, ( i & ( i - 1 ) ) * l_words, l_table, i * l_words, l_words );
+                p_semiring.add( l_table, i * l_words, p_right, ( c + Integer.numberOfTrailingZeros( i ) ) * l_words, l_words );
+            }
+
+            for ( int r = 0; r < p_rows; r++ )
+            {
+                final int l_index = (int) CKernel.bits( p_left, (long) ( p_first + r ) * p_inner + c, l_length );
+                if ( l_index != 0 )
+                    p_semiring.add( l_result, r * l_words, l_table, l_index * l_words, l_words );
+            }
+        }
+
+        for ( int r = 0; r < p_rows; r++ )
+            for ( int w = 0; w < l_words; w++ )
+                CKernel.put( p_target, (long) ( p_first + r ) * p_columns + ( w << 6 ), l_result[r * l_words + w], Math.min( 64, p_columns - ( w << 6 ) ) );
+    }
+
+    /**
+     * hamming distance of two bit vectors, the distance
+     * is counted over the bits of the target
+     *
+     * @param p_target target vector
+     * @param p_source source vector
+     * @return number of different bits
+     * @throws IllegalArgumentException if the target is larger than the source
+     */
+    @Nonnegative
+    public static int hammingdistance( @Nonnull final BitVector p_target, @Nonnull final BitVector p_source )
+    {
+        CKernel.checksize( p_target.size(), p_source.size() );
+        return CKernel.hammingdistance( p_target.elements(), p_source.elements(), p_target.size() );
+    }
+
+    /**
+     * hamming distance of two word arrays, computes
+     * popcount( left[i] ^ right[i] ) without a temporary array
+     *
+     * @param p_left left words
+     * @param p_right right words
+     * @param p_size number of bits which are compared
+     * @return number of different bits
+     */
+    @Nonnegative
+    public static int hammingdistance( @Nonnull final long[] p_left, @Nonnull final long[] p_right, @Nonnegative final int p_size )
+    {
+        final int l_full = p_size >>> 6;
+        int l_count = 0;
+
+        for ( int i = 0; i < l_full; i++ )
+            l_count += Long.bitCount( p_left[i] ^ p_right[i] );
+
+        if ( ( p_size & 63 ) != 0 )
+            l_count += Long.bitCount( ( p_left[l_full] ^ p_right[l_full] ) & CKernel.tailmask( p_size ) );
+
+        return l_count;
+    }
+
+    /**
+     * hamming metric of two bit vectors with any size,
+     * the shorter vector is padded with zeros, so for vectors
+     * with equal size it is the hamming distance
+     *
+     * @param p_left left vector
+     * @param p_right right vector
+     * @return number of different bits
+     */
+    @Nonnegative
+    public static int hammingmetric( @Nonnull final BitVector p_left, @Nonnull final BitVector p_right )
+    {
+        final BitVector l_long = p_left.size() < p_right.size() ? p_right : p_left;
+        final int l_common = Math.min( p_left.size(), p_right.size() );
+
+        return CKernel.hammingdistance( p_left.elements(), p_right.elements(), l_common )
+               + CKernel.cardinality( l_long.elements(), l_common, l_long.size() );
+    }
+
+    /**
+     * bounded hamming distance of two word arrays, the
+     * counting stops if the partial distance is larger
+     * than the bound
+     *
+     * @param p_left left words
+     * @param p_right right words
+     * @param p_size number of bits which are compared
+     * @param p_bound bound of the distance
+     * @return distance, or a partial distance larger than the bound
+     */
+    @Nonnegative
+    public static int hammingdistance( @Nonnull final long[] p_left, @Nonnull final long[] p_right, @Nonnegative final int p_size,
+                                       @Nonnegative final int p_bound )
+    {
+        final int l_full = p_size >>> 6;
+        int l_count = 0;
+
+        for ( int i = 0; i < l_full; i += BOUNDWORDS )
+        {
+            final int l_end = Math.min( l_full, i + BOUNDWORDS );
+            for ( int j = i; j < l_end; j++ )
+                l_count += Long.bitCount( p_left[j] ^ p_right[j] );
+
+            if ( l_count > p_bound )
+                return l_count;
+        }
+
+        if ( ( p_size & 63 ) != 0 )
+            l_count += Long.bitCount( ( p_left[l_full] ^ p_right[l_full] ) & CKernel.tailmask( p_size ) );
+
+        return l_count;
+    }
+
+    /**
+     * all-pairs hamming distance, the pair space is split
+     * into tiles of vectors, which fits into the cache, and
+     * the tiles of the upper triangle can be calculated in parallel
+     *
+     * @param p_words words of each vector
+     * @param p_size number of bits of each vector
+     * @param p_parallel parallel execution
+     * @return symmetric distance matrix in row-major order
+     * @throws IllegalArgumentException if the matrix has more than Integer.MAX_VALUE values
+     */
+    @Nonnull
+    public static double[] hammingmatrix( @Nonnull final long[][] p_words, @Nonnegative final int p_size, final boolean p_parallel )
+    {
+        final int l_count = p_words.length;
+        if ( (long) l_count * l_count > Integer.MAX_VALUE )
+            throw new IllegalArgumentException( "distance matrix is too large: " + (long) l_count * l_count );
+
+        final int l_tile = Math.max( 1, Math.min( TILESIZE, TILEWORDS / Math.max( 1, ( p_size + 63 ) >>> 6 ) ) );
+        final int l_tiles = ( l_count + l_tile - 1 ) / l_tile;
+        final double[] l_result = new double[l_count * l_count];
+
+        final IntStream l_stream = IntStream.range( 0, l_tiles * l_tiles ).filter( i -> i / l_tiles <= i % l_tiles );
+        ( p_parallel ? l_stream.parallel() : l_stream )
+            .forEach( i -> CKernel.hammingtile( p_words, p_size, l_result, ( i / l_tiles ) * l_tile, ( i % l_tiles ) * l_tile, l_tile ) );
+
+        return l_result;
+    }
+
+    /**
+     * calculates a tile of the distance matrix
+     *
+     * @param p_words words of each vector
+     * @param p_size number of bits of each vector
+     * @param p_result row-major result matrix
+     * @param p_row first row of the tile
+     * @param p_column first column of the tile
+     * @param p_tile tile size
+     */
+    private static void hammingtile( @Nonnull final long[][] p_words, @Nonnegative final int p_size, @Nonnull final double[] p_result,
+                                     @Nonnegative final int p_row, @Nonnegative final int p_column, @Nonnegative final int p_tile )
+    {
+        final int l_count = p_words.length;
+        final int l_rowend = Math.min( l_count, p_row + p_tile );
+        final int l_columnend = Math.min( l_count, p_column + p_tile );
+
+        for ( int r = p_row; r < l_rowend; r++ )
+            for ( int c = Math.max( r + 1, p_column ); c < l_columnend; c++ )
+            {
+                final double l_distance = CKernel.hammingdistance( p_words[r], p_words[c], p_size );
+                p_result[r * l_count + c] = l_distance;
+                p_result[c * l_count + r] = l_distance;
+            }
+    }
+
+    /**
+     * k-nearest neighbours of a query, the candidates are
+     * partitioned and each partition is searched in parallel
+     * with a bounded heap, which is not larger than the partition,
+     * so k can be larger than the number of candidates, a
+     * candidate is discarded as soon as the
+     * partial distance is larger than the current k-th distance
+     *
+     * @param p_query query vector
+     * @param p_candidates candidate vectors
+     * @param p_count number of neighbours
+     * @param p_parallel parallel execution
+     * @return sorted keys, the upper 32 bits are the distance,
+     * the lower 32 bits are the candidate index
+     * @throws IllegalArgumentException if a candidate is larger than the query
+     */
+    @Nonnull
+    public static long[] nearest( @Nonnull final BitVector p_query, @Nonnull final List<BitVector> p_candidates, @Nonnegative final int p_count,
+                                  final boolean p_parallel )
+    {
+        if ( p_count <= 0 || p_candidates.isEmpty() )
+            return new long[0];
+
+        p_candidates.forEach( i -> CKernel.checksize( i.size(), p_query.size() ) );
+
+        final long[] l_query = p_query.elements();
+        final int l_partitions = ( p_candidates.size() + PARTITIONSIZE - 1 ) / PARTITIONSIZE;
+        final IntStream l_stream = IntStream.range( 0, l_partitions );
+        final long[] l_keys = ( p_parallel ? l_stream.parallel() : l_stream )
+            .mapToObj( i ->
+            {
+                final int l_end = Math.min( p_candidates.size(), ( i + 1 ) * PARTITIONSIZE );
+                final CHeap l_heap = new CHeap( Math.min( p_count, l_end - i * PARTITIONSIZE ) );
+                for ( int j = i * PARTITIONSIZE; j < l_end; j++ )
+                {
+                    final BitVector l_candidate = p_candidates.get( j );
+                    final int l_distance = CKernel.hammingdistance( l_candidate.elements(), l_query, l_candidate.size(), l_heap.bound() );
+                    if ( l_distance <= l_heap.bound() )
+                        l_heap.offer( ( (long) l_distance << 32 ) | j );
+                }
+                return l_heap.keys();
+            } )
+            .flatMapToLong( Arrays::stream )
+            .sorted()
+            .toArray();
+
+        return Arrays.copyOf( l_keys, Math.min( p_count, l_keys.length ) );
+    }
+
+
+    /**
+     * bounded max-heap of primitive keys
+     */
+    private static final class CHeap
+    {
+        /**
+         * heap array
+         */
+        private final long[] m_heap;
+        /**
+         * number of elements
+         */
+        private int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_capacity capacity
+         */
+        CHeap( @Nonnegative final int p_capacity )
+        {
+            m_heap = new long[p_capacity];
+        }
+
+        /**
+         * returns the current distance bound
+         *
+         * @return largest distance within the full heap
+         */
+        final int bound()
+        {
+            return m_size < m_heap.length ? Integer.MAX_VALUE : (int) ( m_heap[0] >>> 32 );
+        }
+
+        /**
+         * offers a key, the key is added if the heap is not
+         * full or it is smaller than the largest key
+         *
+         * @param p_key key
+         */
+        final void offer( final long p_key )
+        {
+            if ( m_size < m_heap.length )
+            {
+                int l_index = m_size++;
+                while ( l_index > 0 && m_heap[( l_index - 1 ) >>> 1] < p_key )
+                {
+                    m_heap[l_index] = m_heap[( l_index - 1 ) >>> 1];
+                    l_index = ( l_index - 1 ) >>> 1;
+                }
+                m_heap[l_index] = p_key;
+                return;
+            }
+
+            if ( p_key >= m_heap[0] )
+                return;
+
+            int l_index = 0;
+            while ( 2 * l_index + 1 < m_size )
+            {
+                int l_child = 2 * l_index + 1;
+                if ( l_child + 1 < m_size && m_heap[l_child + 1] > m_heap[l_child] )
+                    l_child++;
+                if ( m_heap[l_child] <= p_key )
+                    break;
+
+                m_heap[l_index] = m_heap[l_child];
+                l_index = l_child;
+            }
+            m_heap[l_index] = p_key;
+        }
+
+        /**
+         * returns the keys
+         *
+         * @return unsorted keys
+         */
+        @Nonnull
+        final long[] keys()
+        {
+            return Arrays.copyOf( m_heap, m_size );
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * access to the storage types of bit matrices.
+ * The matrix actions read and change matrices with the
+ * accessor, so dense and memory-mapped matrices are
+ * dispatched in one place, both store the bits in row-major
+ * order, so the bits can be accessed as vector with the
+ * vector accessor
+ */
+public final class CMatrixAccessor
+{
+    /**
+     * ctor
+     */
+    private CMatrixAccessor()
+    {
+    }
+
+    /**
+     * checks if an object is a supported bit matrix
+     *
+     * @param p_matrix object
+     * @return flag of a dense or mapped matrix
+     */
+    public static boolean ismatrix( @Nullable final Object p_matrix )
+    {
+        return p_matrix instanceof BitMatrix || p_matrix instanceof CMappedBitMatrix;
+    }
+
+    /**
+     * number of columns
+     *
+     * @param p_matrix matrix
+     * @return columns
+     */
+    @Nonnegative
+    public static int columns( @Nonnull final Object p_matrix )
+    {
+        return p_matrix instanceof BitMatrix ? ( (BitMatrix) p_matrix ).columns() : CMatrixAccessor.mapped( p_matrix ).columns();
+    }
+
+    /**
+     * number of rows
+     *
+     * @param p_matrix matrix
+     * @return rows
+     */
+    @Nonnegative
+    public static int rows( @Nonnull final Object p_matrix )
+    {
+        return p_matrix instanceof BitMatrix ? ( (BitMatrix) p_matrix ).rows() : CMatrixAccessor.mapped( p_matrix ).rows();
+    }
+
+    /**
+     * checks the dimension of matrices
+     *
+     * @param p_target target matrix
+     * @param p_source source matrix
+     * @throws IllegalArgumentException on different dimensions
+     */
+    public static void checksize( @Nonnull final Object p_target, @Nonnull final Object p_source )
+    {
+        if ( CMatrixAccessor.columns( p_target ) != CMatrixAccessor.columns( p_source ) || CMatrixAccessor.rows( p_target ) != CMatrixAccessor.rows( p_source ) )
+            throw new IllegalArgumentException(
+                "Incompatible dimensions: (columns,rows)=(" + CMatrixAccessor.columns( p_target ) + "," + CMatrixAccessor.rows( p_target )
+                + ") and (" + CMatrixAccessor.columns( p_source ) + "," + CMatrixAccessor.rows( p_source ) + ")"
+            );
+    }
+
+    /**
+     * returns the bits of the matrix in row-major order,
+     * the vector shares the bits with the matrix
+     *
+     * @param p_matrix matrix
+     * @return dense or mapped vector
+     */
+    @Nonnull
+    public static Object vector( @Nonnull final Object p_matrix )
+    {
+        return p_matrix instanceof BitMatrix ? ( (BitMatrix) p_matrix ).toBitVector() : CMatrixAccessor.mapped( p_matrix ).vector();
+    }
+
+    /**
+     * number of set bits
+     *
+     * @param p_matrix matrix
+     * @return cardinality
+     */
+    @Nonnegative
+    public static long cardinality( @Nonnull final Object p_matrix )
+    {
+        return p_matrix instanceof BitMatrix ? ( (BitMatrix) p_matrix ).cardinality() : CMatrixAccessor.mapped( p_matrix ).cardinality();
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_matrix matrix
+     * @param p_column column index
+     * @param p_row row index
+     * @return bit value
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    public static boolean get( @Nonnull final Object p_matrix, final int p_column, final int p_row )
+    {
+        return p_matrix instanceof BitMatrix ? ( (BitMatrix) p_matrix ).get( p_column, p_row ) : CMatrixAccessor.mapped( p_matrix ).get( p_column, p_row );
+    }
+
+    /**
+     * sets a bit
+     *
+     * @param p_matrix matrix
+     * @param p_column column index
+     * @param p_row row index
+     * @param p_value bit value
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    public static void put( @Nonnull final Object p_matrix, final int p_column, final int p_row, final boolean p_value )
+    {
+        if ( p_matrix instanceof BitMatrix )
+            ( (BitMatrix) p_matrix ).put( p_column, p_row, p_value );
+        else
+            CMatrixAccessor.mapped( p_matrix ).put( p_column, p_row, p_value );
+    }
+
+    /**
+     * logical not
+     *
+     * @param p_matrix matrix
+     */
+    public static void not( @Nonnull final Object p_matrix )
+    {
+        if ( p_matrix instanceof BitMatrix )
+            ( (BitMatrix) p_matrix ).not();
+        else
+            CMatrixAccessor.mapped( p_matrix ).vector().not();
+    }
+
+    /**
+     * returns the matrix as dense bit matrix, a dense
+     * matrix is returned without a copy, a mapped
+     * matrix is copied
+     *
+     * @param p_matrix matrix
+     * @return dense bit matrix
+     */
+    @Nonnull
+    public static BitMatrix dense( @Nonnull final Object p_matrix )
+    {
+        if ( p_matrix instanceof BitMatrix )
+            return (BitMatrix) p_matrix;
+
+        final CMappedBitMatrix l_matrix = CMatrixAccessor.mapped( p_matrix );
+        final BitMatrix l_result = new BitMatrix( l_matrix.columns(), l_matrix.rows() );
+        final long[] l_words = l_result.toBitVector().elements();
+        CVectorAccessor.read( l_matrix.vector(), 0, l_words, l_words.length );
+        return l_result;
+    }
+
+    /**
+     * casts a memory-mapped matrix
+     *
+     * @param p_matrix object
+     * @return mapped matrix
+     * @throws IllegalArgumentException on an unsupported object
+     */
+    @Nonnull
+    private static CMappedBitMatrix mapped( @Nonnull final Object p_matrix )
+    {
+        if ( p_matrix instanceof CMappedBitMatrix )
+            return (CMappedBitMatrix) p_matrix;
+
+        throw new IllegalArgumentException( "unsupported bit matrix: " + p_matrix.getClass().getSimpleName() );
+    }
+
+}
@@ -0,0 +1,658 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitVector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+
+/**
+ * access to the storage types of bit vectors.
+ * All vector actions read and change vectors with the
+ * accessor, so dense vectors, compressed vectors, range views
+ * and memory-mapped vectors are dispatched in one place, dense
+ * vectors are changed directly on the words, compressed vectors
+ * by their chunks, all other vectors are read and written
+ * word-wise in blocks, so the heap memory of an operation is
+ * bounded by the block size
+ */
+public final class CVectorAccessor
+{
+    /**
+     * number of words within a block (8 KiB)
+     */
+    private static final int BLOCKSIZE = 1024;
+
+    /**
+     * ctor
+     */
+    private CVectorAccessor()
+    {
+    }
+
+    /**
+     * checks if an object is a supported bit vector
+     *
+     * @param p_vector object
+     * @return flag of a dense, compressed, view or mapped vector
+     */
+    public static boolean isvector( @Nullable final Object p_vector )
+    {
+        return p_vector instanceof BitVector || p_vector instanceof CCompressedBitVector
+               || p_vector instanceof CBitVectorView || p_vector instanceof CMappedBitVector;
+    }
+
+    /**
+     * number of bits
+     *
+     * @param p_vector vector
+     * @return size
+     * @throws IllegalArgumentException on an unsupported object
+     */
+    @Nonnegative
+    public static long size( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof BitVector )
+            return ( (BitVector) p_vector ).size();
+        if ( p_vector instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_vector ).size();
+
+        return p_vector instanceof CBitVectorView ? ( (CBitVectorView) p_vector ).size() : CVectorAccessor.mapped( p_vector ).size();
+    }
+
+    /**
+     * number of words
+     *
+     * @param p_vector vector
+     * @return number of words
+     */
+    @Nonnegative
+    public static long words( @Nonnull final Object p_vector )
+    {
+        return ( CVectorAccessor.size( p_vector ) + 63 ) >>> 6;
+    }
+
+    /**
+     * checks the size of vectors, the target
+     * cannot be larger than the source
+     *
+     * @param p_target target vector
+     * @param p_source source vector
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    public static void checksize( @Nonnull final Object p_target, @Nonnull final Object p_source )
+    {
+        CKernel.checksize( CVectorAccessor.size( p_target ), CVectorAccessor.size( p_source ) );
+    }
+
+    /**
+     * number of set bits
+     *
+     * @param p_vector vector
+     * @return cardinality
+     */
+    @Nonnegative
+    public static long cardinality( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof BitVector )
+            return ( (BitVector) p_vector ).cardinality();
+        if ( p_vector instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_vector ).cardinality();
+
+        return p_vector instanceof CBitVectorView ? ( (CBitVectorView) p_vector ).cardinality() : CVectorAccessor.mapped( p_vector ).cardinality();
+    }
+
+    /**
+     * number of set bits within a bit range
+     *
+     * @param p_vector vector
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @return number of set bits
+     */
+    @Nonnegative
+    public static long cardinality( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final long p_to )
+    {
+        if ( p_vector instanceof BitVector )
+            return CKernel.cardinality( ( (BitVector) p_vector ).elements(), (int) p_from, (int) p_to );
+
+        long l_count = 0;
+        for ( long i = p_from >>> 6; i << 6 < p_to; i += BLOCKSIZE )
+        {
+            final long[] l_words = CVectorAccessor.block( p_vector, i, p_to );
+            l_count += CKernel.cardinality( l_words, (int) ( Math.max( p_from, i << 6 ) - ( i << 6 ) ), (int) ( Math.min( p_to, ( i + l_words.length ) << 6 ) - ( i << 6 ) ) );
+        }
+        return l_count;
+    }
+
+    /**
+     * reads words, the words of a view
+     * are shifted to the start of the view
+     *
+     * @param p_vector vector
+     * @param p_from first word index
+     * @param p_target target array
+     * @param p_length number of words
+     */
+    public static void read( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_length )
+    {
+        if ( p_vector instanceof BitVector )
+            System.arraycopy( ( (BitVector) p_vector ).elements(), (int) p_from, p_target, 0, p_length );
+        else if ( p_vector instanceof CCompressedBitVector )
+            ( (CCompressedBitVector) p_vector ).read( p_from, p_target, 0, p_length );
+        else if ( p_vector instanceof CBitVectorView )
+            ( (CBitVectorView) p_vector ).read( p_from, p_target, 0, p_length );
+        else
+            CVectorAccessor.mapped( p_vector ).read( p_from, p_target, 0, p_length );
+    }
+
+    /**
+     * writes words
+     *
+     * @param p_vector vector
+     * @param p_from first word index
+     * @param p_source source array
+     * @param p_length number of words
+     */
+    public static void write( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnull final long[] p_source, @Nonnegative final int p_length )
+    {
+        if ( p_vector instanceof BitVector )
+            System.arraycopy( p_source, 0, ( (BitVector) p_vector ).elements(), (int) p_from, p_length );
+        else if ( p_vector instanceof CCompressedBitVector )
+            ( (CCompressedBitVector) p_vector ).write( p_from, p_source, 0, p_length );
+        else if ( p_vector instanceof CBitVectorView )
+            ( (CBitVectorView) p_vector ).write( p_from, p_source, 0, p_length );
+        else
+            CVectorAccessor.mapped( p_vector ).write( p_from, p_source, 0, p_length );
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_vector vector
+     * @param p_index bit index
+     * @return bit value
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    public static boolean get( @Nonnull final Object p_vector, final long p_index )
+    {
+        if ( p_index < 0 || p_index >= CVectorAccessor.size( p_vector ) )
+            throw new IndexOutOfBoundsException( "Attempted to access at index=" + p_index );
+
+        if ( p_vector instanceof BitVector )
+            return ( (BitVector) p_vector ).getQuick( (int) p_index );
+        if ( p_vector instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_vector ).get( (int) p_index );
+
+        return p_vector instanceof CBitVectorView ? ( (CBitVectorView) p_vector ).get( (int) p_index ) : CVectorAccessor.mapped( p_vector ).get( p_index );
+    }
+
+    /**
+     * reads bits by indices
+     *
+     * @param p_vector vector
+     * @param p_indices bit indices
+     * @return bit values in the order of the indices
+     * @throws IndexOutOfBoundsException on indices outside the size
+     */
+    @Nonnull
+    public static boolean[] get( @Nonnull final Object p_vector, @Nonnull final int[] p_indices )
+    {
+        if ( p_vector instanceof BitVector )
+            return CKernel.get( ( (BitVector) p_vector ).elements(), ( (BitVector) p_vector ).size(), p_indices );
+        if ( p_vector instanceof CBitVectorView )
+            return ( (CBitVectorView) p_vector ).get( p_indices );
+
+        final boolean[] l_result = new boolean[p_indices.length];
+        for ( int i = 0; i < p_indices.length; i++ )
+            l_result[i] = CVectorAccessor.get( p_vector, p_indices[i] );
+        return l_result;
+    }
+
+    /**
+     * sets or clears bits by indices, the bits
+     * are grouped by words, so each word is
+     * read and written once, the bits of a
+     * compressed vector are changed within
+     * the containers, all indices are checked
+     * before any bit is changed
+     *
+     * @param p_vector vector
+     * @param p_indices bit indices
+     * @param p_value bit value
+     * @throws IndexOutOfBoundsException on indices outside the size
+     */
+    public static void apply( @Nonnull final Object p_vector, @Nonnull final int[] p_indices, final boolean p_value )
+    {
+        if ( p_vector instanceof CBitVectorView )
+        {
+            ( (CBitVectorView) p_vector ).apply( p_indices, p_value );
+            return;
+        }
+
+        if ( p_vector instanceof CCompressedBitVector )
+        {
+            final CCompressedBitVector l_vector = (CCompressedBitVector) p_vector;
+            final OptionalInt l_wrong = Arrays.stream( p_indices ).filter( i -> i < 0 || i >= l_vector.size() ).findFirst();
+            if ( l_wrong.isPresent() )
+                throw new IndexOutOfBoundsException( "Attempted to access index " + l_wrong.getAsInt() + ", size " + l_vector.size() );
+
+            Arrays.stream( p_indices ).forEach( i -> l_vector.put( i, p_value ) );
+            return;
+        }
+
+        final long[] l_masks = CKernel.masks( p_indices );
+        if ( p_vector instanceof BitVector )
+        {
+            CKernel.apply( ( (BitVector) p_vector ).elements(), ( (BitVector) p_vector ).size(), l_masks, p_value );
+            return;
+        }
+
+        if ( l_masks.length == 0 )
+            return;
+
+        final long l_last = ( l_masks[l_masks.length - 2] << 6 ) + 63 - Long.numberOfLeadingZeros( l_masks[l_masks.length - 1] );
+        if ( l_last >= CVectorAccessor.size( p_vector ) )
+            throw new IndexOutOfBoundsException( "Attempted to access index " + l_last + ", size " + CVectorAccessor.size( p_vector ) );
+
+        final long[] l_word = new long[1];
+        for ( int i = 0; i < l_masks.length; i += 2 )
+        {
+            CVectorAccessor.read( p_vector, l_masks[i], l_word, 1 );
+            l_word[0] = p_value ? l_word[0] | l_masks[i + 1] : l_word[0] & ~l_masks[i + 1];
+            CVectorAccessor.write( p_vector, l_masks[i], l_word, 1 );
+        }
+    }
+
+    /**
+     * applies an operator on a bit range
+     *
+     * @param p_vector vector
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @param p_operator operator, which gets the word and the mask of the changed bits
+     * @see CKernel#range(long[], int, int, LongBinaryOperator)
+     */
+    public static void range( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final long p_to,
+                              @Nonnull final LongBinaryOperator p_operator )
+    {
+        if ( p_vector instanceof BitVector )
+        {
+            CKernel.range( ( (BitVector) p_vector ).elements(), (int) p_from, (int) p_to, p_operator );
+            return;
+        }
+
+        for ( long i = p_from >>> 6; i << 6 < p_to; i += BLOCKSIZE )
+        {
+            final long[] l_words = CVectorAccessor.block( p_vector, i, p_to );
+            CKernel.range( l_words, (int) ( Math.max( p_from, i << 6 ) - ( i << 6 ) ), (int) ( Math.min( p_to, ( i + l_words.length ) << 6 ) - ( i << 6 ) ), p_operator );
+            CVectorAccessor.write( p_vector, i, l_words, l_words.length );
+        }
+    }
+
+    /**
+     * logical not
+     *
+     * @param p_vector vector
+     */
+    public static void not( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof BitVector )
+            ( (BitVector) p_vector ).not();
+        else if ( p_vector instanceof CCompressedBitVector )
+            ( (CCompressedBitVector) p_vector ).not();
+        else if ( p_vector instanceof CBitVectorView )
+            ( (CBitVectorView) p_vector ).not();
+        else
+            CVectorAccessor.mapped( p_vector ).not();
+    }
+
+    /**
+     * hamming distance, the distance is counted over
+     * the bits of the target, dense and compressed vectors
+     * are counted without a copy, all other vectors in
+     * blocks, so heap memory is constant
+     *
+     * @param p_target target vector
+     * @param p_source source vector
+     * @return number of different bits
+     * @throws IllegalArgumentException if the target is larger than the source
+     */
+    @Nonnegative
+    public static long hammingdistance( @Nonnull final Object p_target, @Nonnull final Object p_source )
+    {
+        if ( p_target instanceof BitVector && p_source instanceof BitVector )
+            return CKernel.hammingdistance( (BitVector) p_target, (BitVector) p_source );
+        if ( p_target instanceof CCompressedBitVector && p_source instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_target ).hammingdistance( (CCompressedBitVector) p_source );
+
+        CVectorAccessor.checksize( p_target, p_source );
+        final long l_size = CVectorAccessor.size( p_target );
+
+        final long l_words = ( l_size + 63 ) >>> 6;
+        return LongStream.range( 0, ( l_words + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                         .parallel()
+                         .map( i ->
+                         {
+                             final int l_length = (int) Math.min( BLOCKSIZE, l_words - i * BLOCKSIZE );
+                             final long[] l_target = new long[l_length];
+                             final long[] l_source = new long[l_length];
+                             CVectorAccessor.read( p_target, i * BLOCKSIZE, l_target, l_length );
+                             CVectorAccessor.read( p_source, i * BLOCKSIZE, l_source, l_length );
+
+                             long l_count = 0;
+                             for ( int j = 0; j < l_length - 1; j++ )
+                                 l_count += Long.bitCount( l_target[j] ^ l_source[j] );
+
+                             final long l_mask = i * BLOCKSIZE + l_length == l_words ? CKernel.tailmask( (int) ( l_size & 63 ) ) : -1L;
+                             return l_count + Long.bitCount( ( l_target[l_length - 1] ^ l_source[l_length - 1] ) & l_mask );
+                         } )
+                         .sum();
+    }
+
+    /**
+     * streams each bit as 0 / 1 or the indices of the
+     * set bits, a dense vector is streamed on its words,
+     * all other vectors are read in blocks, indices of
+     * vectors with more bits than an integer are long values
+     *
+     * @param p_vector vector
+     * @param p_indices returns the indices of the set bits instead of the bit values
+     * @return sequential stream
+     */
+    @Nonnull
+    public static Stream<? extends Number> stream( @Nonnull final Object p_vector, final boolean p_indices )
+    {
+        if ( p_vector instanceof BitVector )
+            return CBitSpliterator.stream( ( (BitVector) p_vector ).elements(), ( (BitVector) p_vector ).size(), p_indices ).boxed();
+
+        final long l_size = CVectorAccessor.size( p_vector );
+        return LongStream.range( 0, ( CVectorAccessor.words( p_vector ) + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                         .boxed()
+                         .flatMap( i ->
+                         {
+                             final long l_from = ( i * BLOCKSIZE ) << 6;
+                             final long[] l_words = CVectorAccessor.block( p_vector, i * BLOCKSIZE, l_size );
+                             final IntStream l_bits = CBitSpliterator.stream( l_words, (int) Math.min( l_size - l_from, (long) l_words.length << 6 ), p_indices );
+
+                             if ( !p_indices )
+                                 return l_bits.boxed();
+                             return l_size > Integer.MAX_VALUE ? l_bits.mapToObj( j -> l_from + j ) : l_bits.mapToObj( j -> (int) ( l_from + j ) );
+                         } );
+    }
+
+    /**
+     * copies a bit range into a dense bit vector
+     *
+     * @param p_vector vector
+     * @param p_from first bit index
+     * @param p_length number of bits
+     * @return dense bit vector
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    @Nonnull
+    public static BitVector part( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final int p_length )
+    {
+        if ( p_from < 0 || p_length < 0 || p_from + p_length > CVectorAccessor.size( p_vector ) )
+            throw new IndexOutOfBoundsException( "from: " + p_from + ", length: " + p_length + ", size: " + CVectorAccessor.size( p_vector ) );
+
+        if ( p_vector instanceof CMappedBitVector )
+            return ( (CMappedBitVector) p_vector ).part( p_from, p_length );
+
+        final BitVector l_result = new BitVector( p_length );
+        if ( p_length == 0 )
+            return l_result;
+
+        if ( p_vector instanceof BitVector )
+        {
+            CKernel.copy( ( (BitVector) p_vector ).elements(), p_from, l_result.elements(), p_length );
+            return l_result;
+        }
+
+        final long[] l_words = new long[(int) ( ( ( p_from + p_length - 1 ) >>> 6 ) - ( p_from >>> 6 ) + 1 )];
+        CVectorAccessor.read( p_vector, p_from >>> 6, l_words, l_words.length );
+        CKernel.copy( l_words, p_from & 63, l_result.elements(), p_length );
+        return l_result;
+    }
+
+    /**
+     * returns the vector as dense bit vector, a dense
+     * vector is returned without a copy, all other
+     * vectors are copied
+     *
+     * @param p_vector vector
+     * @return dense bit vector
+     * @throws IllegalArgumentException if the vector is too large for a dense bit vector
+     */
+    @Nonnull
+    public static BitVector dense( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof BitVector )
+            return (BitVector) p_vector;
+        if ( p_vector instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_vector ).toBitVector();
+
+        if ( CVectorAccessor.size( p_vector ) > Integer.MAX_VALUE )
+            throw new IllegalArgumentException( "vector is too large for a dense bit vector: " + CVectorAccessor.size( p_vector ) );
+
+        return CVectorAccessor.part( p_vector, 0, (int) CVectorAccessor.size( p_vector ) );
+    }
+
+    /**
+     * copies a vector, a compressed vector stays
+     * compressed, a range view or a mapped vector
+     * is copied into a new dense bit vector
+     *
+     * @param p_vector vector
+     * @return copy
+     */
+    @Nonnull
+    public static Object copy( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof CCompressedBitVector )
+            return ( (CCompressedBitVector) p_vector ).copy();
+
+        return p_vector instanceof BitVector ? ( (BitVector) p_vector ).copy() : CVectorAccessor.dense( p_vector );
+    }
+
+    /**
+     * checks if range views can be created
+     * on the vector
+     *
+     * @param p_vector vector
+     * @return flag of a dense vector or a view
+     */
+    public static boolean viewable( @Nullable final Object p_vector )
+    {
+        return p_vector instanceof BitVector || p_vector instanceof CBitVectorView;
+    }
+
+    /**
+     * creates a range view, which shares the words
+     *
+     * @param p_vector dense vector or view
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (inclusive)
+     * @return view
+     * @throws IndexOutOfBoundsException on wrong range
+     * @throws IllegalArgumentException if the vector does not support views
+     */
+    @Nonnull
+    public static CBitVectorView view( @Nonnull final Object p_vector, final int p_from, final int p_to )
+    {
+        if ( p_vector instanceof BitVector )
+            return new CBitVectorView( (BitVector) p_vector, p_from, p_to );
+        if ( p_vector instanceof CBitVectorView )
+            return ( (CBitVectorView) p_vector ).view( p_from, p_to );
+
+        throw new IllegalArgumentException( "range views are not supported on: " + p_vector.getClass().getSimpleName() );
+    }
+
+    /**
+     * checks if two vectors share bits, a dense vector and
+     * its views or two views of a dense vector share bits
+     * if their bit ranges intersect, a vector does not
+     * overlap with itself
+     *
+     * @param p_left vector
+     * @param p_right vector
+     * @return overlapping flag
+     */
+    public static boolean overlaps( @Nonnull final Object p_left, @Nonnull final Object p_right )
+    {
+        if ( p_left == p_right || !CVectorAccessor.viewable( p_left ) || !CVectorAccessor.viewable( p_right ) )
+            return false;
+
+        final int[] l_left = CVectorAccessor.range( p_left );
+        final int[] l_right = CVectorAccessor.range( p_right );
+        return CVectorAccessor.elements( p_left ) == CVectorAccessor.elements( p_right )
+               && l_left[0] < l_right[1] && l_right[0] < l_left[1];
+    }
+
+    /**
+     * checks if any two vectors of a list share bits, the
+     * vectors are grouped by their words, so only the bit
+     * ranges of a group are compared after sorting
+     *
+     * @param p_vectors vectors
+     * @return overlapping flag
+     * @see CVectorAccessor#overlaps(Object, Object)
+     */
+    public static boolean overlaps( @Nonnull final List<?> p_vectors )
+    {
+        final Set<Object> l_distinct = Collections.newSetFromMap( new IdentityHashMap<>() );
+        final Map<long[], List<int[]>> l_groups = new IdentityHashMap<>();
+
+        p_vectors.stream()
+                 .filter( CVectorAccessor::viewable )
+                 .filter( l_distinct::add )
+                 .forEach( i -> l_groups.computeIfAbsent( CVectorAccessor.elements( i ), j -> new ArrayList<>() ).add( CVectorAccessor.range( i ) ) );
+
+        return l_groups.values().stream().anyMatch( CVectorAccessor::intersects );
+    }
+
+    /**
+     * checks if bit ranges of the same words intersect,
+     * the ranges are sorted by their first bit, so each
+     * range is compared with the end of all previous ranges
+     *
+     * @param p_ranges bit ranges
+     * @return intersection flag
+     */
+    private static boolean intersects( @Nonnull final List<int[]> p_ranges )
+    {
+        p_ranges.sort( Comparator.comparingInt( i -> i[0] ) );
+
+        int l_end = Integer.MIN_VALUE;
+        for ( final int[] l_range : p_ranges )
+        {
+            if ( l_range[0] == l_range[1] )
+                continue;
+            if ( l_range[0] < l_end )
+                return true;
+            l_end = Math.max( l_end, l_range[1] );
+        }
+        return false;
+    }
+
+    /**
+     * returns the words of a dense vector or a view
+     *
+     * @param p_vector dense vector or view
+     * @return words
+     */
+    @Nonnull
+    private static long[] elements( @Nonnull final Object p_vector )
+    {
+        return p_vector instanceof BitVector ? ( (BitVector) p_vector ).elements() : ( (CBitVectorView) p_vector ).elements();
+    }
+
+    /**
+     * returns the bit range of a dense vector or a view
+     * within the words
+     *
+     * @param p_vector dense vector or view
+     * @return first bit index (inclusive) and last bit index (exclusive)
+     */
+    @Nonnull
+    private static int[] range( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof BitVector )
+            return new int[]{0, ( (BitVector) p_vector ).size()};
+
+        final CBitVectorView l_view = (CBitVectorView) p_vector;
+        return new int[]{l_view.offset(), l_view.offset() + l_view.size()};
+    }
+
+    /**
+     * reads a block of words for a bit range
+     *
+     * @param p_vector vector
+     * @param p_from first word index
+     * @param p_to last bit index (exclusive)
+     * @return block with at most 1024 words
+     */
+    @Nonnull
+    private static long[] block( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final long p_to )
+    {
+        final long[] l_words = new long[(int) Math.min( BLOCKSIZE, ( ( p_to + 63 ) >>> 6 ) - p_from )];
+        CVectorAccessor.read( p_vector, p_from, l_words, l_words.length );
+        return l_words;
+    }
+
+    /**
+     * casts a memory-mapped vector
+     *
+     * @param p_vector object
+     * @return mapped vector
+     * @throws IllegalArgumentException on an unsupported object
+     */
+    @Nonnull
+    private static CMappedBitVector mapped( @Nonnull final Object p_vector )
+    {
+        if ( p_vector instanceof CMappedBitVector )
+            return (CMappedBitVector) p_vector;
+
+        throw new IllegalArgumentException( "unsupported bit vector: " + p_vector.getClass().getSimpleName() );
+    }
+
+}
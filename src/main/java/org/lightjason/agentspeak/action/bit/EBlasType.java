@@ -24,6 +24,10 @@
 package org.lightjason.agentspeak.action.bit;
 
 
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,7 +37,10 @@ import java.util.stream.Collectors;
 
 
 /**
- * blas types
+ * blas types.
+ * The types are also used as representation of bit vectors,
+ * a dense bit vector stores all words, a sparse bit vector
+ * is stored compressed
  */
 public enum EBlasType
 {
@@ -46,6 +53,16 @@ public enum EBlasType
      * @warning name method cannot replaced by a static call
      */
     private static final Set<String> NAMES = Collections.unmodifiableSet( Arrays.stream( EBlasType.values() ).map( i -> i.name() ).collect( Collectors.toSet() ) );
+    /**
+     * density, below which a dense bit vector becomes sparse
+     */
+    private static final double SPARSEDENSITY = 1.0 / 32;
+    /**
+     * density, above which a sparse bit vector becomes dense,
+     * the gap to the sparse density avoids switching
+     * on small changes
+     */
+    private static final double DENSEDENSITY = 1.0 / 8;
 
     /**
      * additional factory
@@ -69,5 +86,69 @@ public enum EBlasType
         return NAMES.contains( p_name.trim().toUpperCase( Locale.ROOT ) );
     }
 
+    /**
+     * returns the representation by the measured density,
+     * the current representation is kept between the
+     * sparse and dense density
+     *
+     * @param p_size number of bits
+     * @param p_cardinality number of set bits
+     * @param p_current current representation
+     * @return representation
+     */
+    @Nonnull
+    public static EBlasType of( @Nonnegative final int p_size, @Nonnegative final int p_cardinality, @Nonnull final EBlasType p_current )
+    {
+        final double l_density = p_size == 0 ? 0 : (double) p_cardinality / p_size;
+        if ( l_density < SPARSEDENSITY )
+            return SPARSE;
+
+        return l_density > DENSEDENSITY ? DENSE : p_current;
+    }
+
+    /**
+     * returns the representation of a bit vector
+     * by the measured density
+     *
+     * @param p_vector dense or compressed bit vector
+     * @return representation
+     */
+    @Nonnull
+    public static EBlasType density( @Nonnull final Object p_vector )
+    {
+        return p_vector instanceof BitVector
+               ? EBlasType.of( ( (BitVector) p_vector ).size(), ( (BitVector) p_vector ).cardinality(), DENSE )
+               : EBlasType.of( ( (CCompressedBitVector) p_vector ).size(), ( (CCompressedBitVector) p_vector ).cardinality(), SPARSE );
+    }
+
+    /**
+     * creates an empty bit vector
+     *
+     * @param p_size number of bits
+     * @return dense or compressed bit vector
+     */
+    @Nonnull
+    public final Object create( @Nonnegative final int p_size )
+    {
+        return this == DENSE ? new BitVector( p_size ) : new CCompressedBitVector( p_size );
+    }
+
+    /**
+     * converts a bit vector into the representation,
+     * the vector is returned if it is stored in
+     * the representation
+     *
+     * @param p_vector dense or compressed bit vector
+     * @return dense or compressed bit vector
+     */
+    @Nonnull
+    public final Object convert( @Nonnull final Object p_vector )
+    {
+        if ( this == DENSE )
+            return p_vector instanceof BitVector ? p_vector : ( (CCompressedBitVector) p_vector ).toBitVector();
+
+        return CCompressedBitVector.of( p_vector );
+    }
+
 }
 
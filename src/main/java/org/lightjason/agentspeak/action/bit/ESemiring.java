@@ -0,0 +1,105 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * semirings of bit matrix products.
+ * The multiplication is always the conjunction,
+ * the addition is the disjunction (boolean) or the
+ * exclusive disjunction (gf2), the addition is
+ * applied on whole words
+ */
+public enum ESemiring
+{
+    BOOLEAN
+    {
+        @Override
+        public void add( @Nonnull final long[] p_target, @Nonnegative final int p_targetoffset,
+                         @Nonnull final long[] p_source, @Nonnegative final int p_sourceoffset, @Nonnegative final int p_length )
+        {
+            for ( int i = 0; i < p_length; i++ )
+                p_target[p_targetoffset + i] |= p_source[p_sourceoffset + i];
+        }
+    },
+    GF2
+    {
+        @Override
+        public void add( @Nonnull final long[] p_target, @Nonnegative final int p_targetoffset,
+                         @Nonnull final long[] p_source, @Nonnegative final int p_sourceoffset, @Nonnegative final int p_length )
+        {
+            for ( int i = 0; i < p_length; i++ )
+                p_target[p_targetoffset + i] ^= p_source[p_sourceoffset + i];
+        }
+    };
+
+    /**
+     * set with names
+     *
+     * @warning name method cannot replaced by a static call
+     */
+    private static final Set<String> NAMES = Collections.unmodifiableSet( Arrays.stream( ESemiring.values() ).map( i -> i.name() ).collect( Collectors.toSet() ) );
+
+    /**
+     * additional factory
+     *
+     * @param p_name name as string
+     * @return enum
+     */
+    public static ESemiring of( @Nonnull final String p_name )
+    {
+        return ESemiring.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * check method to check if a enum value with a name exists
+     *
+     * @param p_name name as string
+     * @return boolean if enum value exists
+     */
+    public static boolean exists( @Nonnull final String p_name )
+    {
+        return NAMES.contains( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * adds words to the target words
+     *
+     * @param p_target target words
+     * @param p_targetoffset offset of the target
+     * @param p_source source words
+     * @param p_sourceoffset offset of the source
+     * @param p_length number of words
+     */
+    public abstract void add( @Nonnull final long[] p_target, @Nonnegative final int p_targetoffset,
+                              @Nonnull final long[] p_source, @Nonnegative final int p_sourceoffset, @Nonnegative final int p_length );
+}
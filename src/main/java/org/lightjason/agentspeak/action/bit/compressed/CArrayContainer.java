@@ -0,0 +1,311 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * container with a sorted array of the set bits,
+ * it is used for sparse containers with at most
+ * 4096 set bits
+ */
+final class CArrayContainer extends IBaseContainer
+{
+    /**
+     * sorted values
+     */
+    private char[] m_values;
+    /**
+     * number of values
+     */
+    private int m_cardinality;
+
+    /**
+     * ctor
+     */
+    CArrayContainer()
+    {
+        this( new char[4], 0 );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_values sorted values
+     * @param p_cardinality number of values
+     */
+    CArrayContainer( @Nonnull final char[] p_values, @Nonnegative final int p_cardinality )
+    {
+        m_values = p_values;
+        m_cardinality = p_cardinality;
+    }
+
+    @Override
+    final int cardinality()
+    {
+        return m_cardinality;
+    }
+
+    @Override
+    final int runs()
+    {
+        int l_runs = 0;
+        for ( int i = 0; i < m_cardinality; i++ )
+            if ( i == 0 || m_values[i] != m_values[i - 1] + 1 )
+                l_runs++;
+        return l_runs;
+    }
+
+    @Override
+    final boolean contains( final int p_value )
+    {
+        return Arrays.binarySearch( m_values, 0, m_cardinality, (char) p_value ) >= 0;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer add( final int p_value )
+    {
+        final int l_index = Arrays.binarySearch( m_values, 0, m_cardinality, (char) p_value );
+        if ( l_index >= 0 )
+            return this;
+
+        if ( m_cardinality == ARRAYSIZE )
+            return this.bitmap().add( p_value );
+
+        if ( m_cardinality == m_values.length )
+            m_values = Arrays.copyOf( m_values, Math.min( ARRAYSIZE, 2 * m_cardinality ) );
+
+        final int l_position = -l_index - 1;
+        System.arraycopy( m_values, l_position, m_values, l_position + 1, m_cardinality - l_position );
+        m_values[l_position] = (char) p_value;
+        m_cardinality++;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer remove( final int p_value )
+    {
+        final int l_index = Arrays.binarySearch( m_values, 0, m_cardinality, (char) p_value );
+        if ( l_index < 0 )
+            return this;
+
+        System.arraycopy( m_values, l_index + 1, m_values, l_index, m_cardinality - l_index - 1 );
+        m_cardinality--;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer not( @Nonnegative final int p_limit )
+    {
+        final char[] l_starts = new char[m_cardinality + 1];
+        final char[] l_ends = new char[m_cardinality + 1];
+        int l_length = 0;
+        int l_next = 0;
+
+        for ( int i = 0; i < m_cardinality; i++ )
+        {
+            if ( m_values[i] > l_next )
+            {
+                l_starts[l_length] = (char) l_next;
+                l_ends[l_length++] = (char) ( m_values[i] - 1 );
+            }
+            l_next = m_values[i] + 1;
+        }
+
+        if ( l_next < p_limit )
+        {
+            l_starts[l_length] = (char) l_next;
+            l_ends[l_length++] = (char) ( p_limit - 1 );
+        }
+
+        return new CRunContainer( l_starts, l_ends, l_length ).optimize();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer limit( @Nonnegative final int p_limit )
+    {
+        final int l_index = Arrays.binarySearch( m_values, 0, m_cardinality, (char) Math.min( p_limit, BITS - 1 ) );
+        final int l_cardinality = p_limit >= BITS ? m_cardinality : l_index < 0 ? -l_index - 1 : l_index;
+        return new CArrayContainer( Arrays.copyOf( m_values, Math.max( 4, l_cardinality ) ), l_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer copy()
+    {
+        return new CArrayContainer( m_values.clone(), m_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final long[] words()
+    {
+        final long[] l_words = new long[WORDS];
+        this.fill( l_words, 0 );
+        return l_words;
+    }
+
+    @Nonnull
+    @Override
+    final CBitmapContainer bitmap()
+    {
+        return new CBitmapContainer( this.words(), m_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final CArrayContainer array()
+    {
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    final CRunContainer run()
+    {
+        final int l_runs = this.runs();
+        final char[] l_starts = new char[l_runs];
+        final char[] l_ends = new char[l_runs];
+
+        int l_length = -1;
+        for ( int i = 0; i < m_cardinality; i++ )
+            if ( i == 0 || m_values[i] != m_values[i - 1] + 1 )
+            {
+                l_starts[++l_length] = m_values[i];
+                l_ends[l_length] = m_values[i];
+            }
+            else
+                l_ends[l_length] = m_values[i];
+
+        return new CRunContainer( l_starts, l_ends, l_runs );
+    }
+
+    @Override
+    final void fill( @Nonnull final long[] p_words, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < m_cardinality; i++ )
+            p_words[p_offset + ( m_values[i] >>> 6 )] |= 1L << m_values[i];
+    }
+
+    /**
+     * logical and with another container
+     *
+     * @param p_other other container
+     * @return new container
+     */
+    @Nonnull
+    final IBaseContainer filter( @Nonnull final IBaseContainer p_other )
+    {
+        final char[] l_values = new char[Math.max( 4, m_cardinality )];
+        int l_cardinality = 0;
+        for ( int i = 0; i < m_cardinality; i++ )
+            if ( p_other.contains( m_values[i] ) )
+                l_values[l_cardinality++] = m_values[i];
+
+        return new CArrayContainer( l_values, l_cardinality );
+    }
+
+    /**
+     * number of values, which are set within
+     * another container
+     *
+     * @param p_other other container
+     * @return number of values
+     */
+    @Nonnegative
+    final int count( @Nonnull final IBaseContainer p_other )
+    {
+        int l_count = 0;
+        for ( int i = 0; i < m_cardinality; i++ )
+            if ( p_other.contains( m_values[i] ) )
+                l_count++;
+        return l_count;
+    }
+
+    /**
+     * merges two array containers
+     *
+     * @param p_other other container
+     * @param p_xor true for a logical xor, otherwise logical or
+     * @return new container
+     */
+    @Nonnull
+    final IBaseContainer merge( @Nonnull final CArrayContainer p_other, final boolean p_xor )
+    {
+        final char[] l_values = new char[m_cardinality + p_other.m_cardinality];
+        int l_cardinality = 0;
+        int i = 0;
+        int j = 0;
+
+        while ( i < m_cardinality && j < p_other.m_cardinality )
+            if ( m_values[i] < p_other.m_values[j] )
+                l_values[l_cardinality++] = m_values[i++];
+            else if ( m_values[i] > p_other.m_values[j] )
+                l_values[l_cardinality++] = p_other.m_values[j++];
+            else
+            {
+                if ( !p_xor )
+                    l_values[l_cardinality++] = m_values[i];
+                i++;
+                j++;
+            }
+
+        while ( i < m_cardinality )
+            l_values[l_cardinality++] = m_values[i++];
+        while ( j < p_other.m_cardinality )
+            l_values[l_cardinality++] = p_other.m_values[j++];
+
+        return new CArrayContainer( l_values, l_cardinality ).optimize();
+    }
+
+    /**
+     * sets all values within a bitmap container
+     *
+     * @param p_bitmap bitmap container
+     */
+    final void set( @Nonnull final CBitmapContainer p_bitmap )
+    {
+        for ( int i = 0; i < m_cardinality; i++ )
+            p_bitmap.add( m_values[i] );
+    }
+
+    /**
+     * flips all values within a bitmap container
+     *
+     * @param p_bitmap bitmap container
+     */
+    final void flip( @Nonnull final CBitmapContainer p_bitmap )
+    {
+        for ( int i = 0; i < m_cardinality; i++ )
+            p_bitmap.flip( m_values[i] );
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * container with 1024 words, it is used for
+ * dense containers with more than 4096 set bits
+ */
+final class CBitmapContainer extends IBaseContainer
+{
+    /**
+     * words
+     */
+    private final long[] m_words;
+    /**
+     * number of set bits
+     */
+    private int m_cardinality;
+
+    /**
+     * ctor
+     *
+     * @param p_words words
+     * @param p_cardinality number of set bits
+     */
+    CBitmapContainer( @Nonnull final long[] p_words, @Nonnegative final int p_cardinality )
+    {
+        m_words = p_words;
+        m_cardinality = p_cardinality;
+    }
+
+    @Override
+    final int cardinality()
+    {
+        return m_cardinality;
+    }
+
+    @Override
+    final int runs()
+    {
+        int l_runs = 0;
+        long l_carry = 0;
+        for ( final long l_word : m_words )
+        {
+            l_runs += Long.bitCount( l_word & ~( ( l_word << 1 ) | l_carry ) );
+            l_carry = l_word >>> 63;
+        }
+        return l_runs;
+    }
+
+    @Override
+    final boolean contains( final int p_value )
+    {
+        return ( m_words[p_value >>> 6] & ( 1L << p_value ) ) != 0;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer add( final int p_value )
+    {
+        if ( !this.contains( p_value ) )
+        {
+            m_words[p_value >>> 6] |= 1L << p_value;
+            m_cardinality++;
+        }
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer remove( final int p_value )
+    {
+        if ( !this.contains( p_value ) )
+            return this;
+
+        m_words[p_value >>> 6] &= ~( 1L << p_value );
+        m_cardinality--;
+        return m_cardinality <= ARRAYSIZE ? this.array() : this;
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer not( @Nonnegative final int p_limit )
+    {
+        final long[] l_words = new long[WORDS];
+        final int l_last = ( p_limit + 63 ) >>> 6;
+        for ( int i = 0; i < l_last; i++ )
+            l_words[i] = ~m_words[i];
+        if ( l_last > 0 )
+            l_words[l_last - 1] &= -1L >>> ( 63 - ( ( p_limit - 1 ) & 63 ) );
+
+        return new CBitmapContainer( l_words, p_limit - m_cardinality ).optimize();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer limit( @Nonnegative final int p_limit )
+    {
+        final long[] l_words = new long[WORDS];
+        final int l_last = Math.min( WORDS, ( p_limit + 63 ) >>> 6 );
+        System.arraycopy( m_words, 0, l_words, 0, l_last );
+        if ( p_limit < BITS && l_last > 0 )
+            l_words[l_last - 1] &= -1L >>> ( 63 - ( ( p_limit - 1 ) & 63 ) );
+
+        return new CBitmapContainer( l_words, count( l_words ) ).optimize();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer copy()
+    {
+        return new CBitmapContainer( m_words.clone(), m_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final long[] words()
+    {
+        return m_words;
+    }
+
+    @Nonnull
+    @Override
+    final CBitmapContainer bitmap()
+    {
+        return new CBitmapContainer( m_words.clone(), m_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final CArrayContainer array()
+    {
+        final char[] l_values = new char[Math.max( 4, m_cardinality )];
+        int l_cardinality = 0;
+        for ( int i = 0; i < WORDS; i++ )
+            for ( long l_word = m_words[i]; l_word != 0; l_word &= l_word - 1 )
+                l_values[l_cardinality++] = (char) ( ( i << 6 ) + Long.numberOfTrailingZeros( l_word ) );
+
+        return new CArrayContainer( l_values, l_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final CRunContainer run()
+    {
+        final int l_runs = this.runs();
+        final char[] l_starts = new char[l_runs];
+        final char[] l_ends = new char[l_runs];
+
+        int l_index = this.next( 0, false );
+        for ( int i = 0; i < l_runs; i++ )
+        {
+            final int l_end = this.next( l_index, true );
+            l_starts[i] = (char) l_index;
+            l_ends[i] = (char) ( l_end - 1 );
+            l_index = this.next( l_end, false );
+        }
+
+        return new CRunContainer( l_starts, l_ends, l_runs );
+    }
+
+    @Override
+    final void fill( @Nonnull final long[] p_words, @Nonnegative final int p_offset )
+    {
+        System.arraycopy( m_words, 0, p_words, p_offset, Math.min( WORDS, p_words.length - p_offset ) );
+    }
+
+    /**
+     * flips a bit
+     *
+     * @param p_value lower bits of the index
+     */
+    final void flip( final int p_value )
+    {
+        m_cardinality += this.contains( p_value ) ? -1 : 1;
+        m_words[p_value >>> 6] ^= 1L << p_value;
+    }
+
+    /**
+     * logical and with words
+     *
+     * @param p_words words
+     */
+    final void and( @Nonnull final long[] p_words )
+    {
+        for ( int i = 0; i < WORDS; i++ )
+            m_words[i] &= p_words[i];
+        m_cardinality = count( m_words );
+    }
+
+    /**
+     * logical or with words
+     *
+     * @param p_words words
+     */
+    final void or( @Nonnull final long[] p_words )
+    {
+        for ( int i = 0; i < WORDS; i++ )
+            m_words[i] |= p_words[i];
+        m_cardinality = count( m_words );
+    }
+
+    /**
+     * logical xor with words
+     *
+     * @param p_words words
+     */
+    final void xor( @Nonnull final long[] p_words )
+    {
+        for ( int i = 0; i < WORDS; i++ )
+            m_words[i] ^= p_words[i];
+        m_cardinality = count( m_words );
+    }
+
+    /**
+     * returns the index of the next bit
+     *
+     * @param p_from first index
+     * @param p_clear true for the next cleared bit, otherwise the next set bit
+     * @return index or number of bits if not exists
+     */
+    private int next( @Nonnegative final int p_from, final boolean p_clear )
+    {
+        if ( p_from >= BITS )
+            return BITS;
+
+        int l_index = p_from >>> 6;
+        long l_word = ( p_clear ? ~m_words[l_index] : m_words[l_index] ) & ( -1L << p_from );
+        while ( l_word == 0 )
+        {
+            if ( ++l_index == WORDS )
+                return BITS;
+            l_word = p_clear ? ~m_words[l_index] : m_words[l_index];
+        }
+        return ( l_index << 6 ) + Long.numberOfTrailingZeros( l_word );
+    }
+
+    /**
+     * number of set bits
+     *
+     * @param p_words words
+     * @return cardinality
+     */
+    private static int count( @Nonnull final long[] p_words )
+    {
+        int l_count = 0;
+        for ( final long l_word : p_words )
+            l_count += Long.bitCount( l_word );
+        return l_count;
+    }
+
+}
@@ -0,0 +1,620 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+
+/**
+ * compressed bit vector.
+ * The vector is split into chunks of 2^16 bits, only
+ * chunks with set bits are stored, each chunk is stored
+ * as a sorted array, a bitmap or as runs, depending on
+ * which representation needs the lowest memory, so memory
+ * and time of the operations scale with the number of
+ * set bits and not with the size of the vector, the
+ * vector is not thread-safe like the dense bit vector
+ *
+ * @see <a href="https://arxiv.org/abs/1402.6407"></a>
+ */
+public final class CCompressedBitVector
+{
+    /**
+     * number of bits
+     */
+    private final int m_size;
+    /**
+     * sorted chunk keys (upper 16 bits of the index)
+     */
+    private char[] m_keys;
+    /**
+     * containers of the keys
+     */
+    private IBaseContainer[] m_containers;
+    /**
+     * number of containers
+     */
+    private int m_length;
+
+    /**
+     * ctor
+     *
+     * @param p_size number of bits
+     */
+    public CCompressedBitVector( @Nonnegative final int p_size )
+    {
+        this( p_size, new char[4], new IBaseContainer[4], 0 );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_size number of bits
+     * @param p_keys sorted chunk keys
+     * @param p_containers containers
+     * @param p_length number of containers
+     */
+    private CCompressedBitVector( @Nonnegative final int p_size, @Nonnull final char[] p_keys, @Nonnull final IBaseContainer[] p_containers,
+                                  @Nonnegative final int p_length )
+    {
+        if ( p_size < 0 )
+            throw new IllegalArgumentException( "size must be non-negative: " + p_size );
+
+        m_size = p_size;
+        m_keys = p_keys;
+        m_containers = p_containers;
+        m_length = p_length;
+    }
+
+    /**
+     * converts a dense bit vector
+     *
+     * @param p_vector dense bit vector
+     * @return compressed bit vector
+     */
+    @Nonnull
+    public static CCompressedBitVector of( @Nonnull final BitVector p_vector )
+    {
+        final int l_chunks = ( p_vector.size() + IBaseContainer.BITS - 1 ) >>> 16;
+        final IBaseContainer[] l_containers = IntStream.range( 0, l_chunks )
+                                                       .parallel()
+                                                       .mapToObj( i -> CCompressedBitVector.chunk( p_vector.elements(), p_vector.size(), i ) )
+                                                       .toArray( IBaseContainer[]::new );
+
+        final char[] l_keys = new char[Math.max( 4, l_chunks )];
+        int l_length = 0;
+        for ( int i = 0; i < l_chunks; i++ )
+            if ( l_containers[i] != null )
+            {
+                l_keys[l_length] = (char) i;
+                l_containers[l_length++] = l_containers[i];
+            }
+
+        return new CCompressedBitVector( p_vector.size(), l_keys, Arrays.copyOf( l_containers, l_keys.length ), l_length );
+    }
+
+    /**
+     * converts a term value into a compressed bit vector,
+     * dense bit vectors are converted
+     *
+     * @param p_value compressed or dense bit vector
+     * @return compressed bit vector
+     */
+    @Nonnull
+    public static CCompressedBitVector of( @Nonnull final Object p_value )
+    {
+        return p_value instanceof BitVector ? CCompressedBitVector.of( (BitVector) p_value ) : (CCompressedBitVector) p_value;
+    }
+
+    /**
+     * number of bits
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * number of set bits
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    public int cardinality()
+    {
+        int l_count = 0;
+        for ( int i = 0; i < m_length; i++ )
+            l_count += m_containers[i].cardinality();
+        return l_count;
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_index index
+     * @return bit value
+     */
+    public boolean get( @Nonnegative final int p_index )
+    {
+        this.checkindex( p_index );
+        final int l_index = this.index( p_index >>> 16 );
+        return l_index >= 0 && m_containers[l_index].contains( p_index & 0xFFFF );
+    }
+
+    /**
+     * sets a bit
+     *
+     * @param p_index index
+     * @param p_value bit value
+     * @return self reference
+     */
+    @Nonnull
+    public CCompressedBitVector put( @Nonnegative final int p_index, final boolean p_value )
+    {
+        this.checkindex( p_index );
+        final int l_index = this.index( p_index >>> 16 );
+
+        if ( l_index < 0 )
+        {
+            if ( p_value )
+                this.insert( -l_index - 1, (char) ( p_index >>> 16 ), new CArrayContainer().add( p_index & 0xFFFF ) );
+            return this;
+        }
+
+        m_containers[l_index] = p_value
+                                ? m_containers[l_index].add( p_index & 0xFFFF )
+                                : m_containers[l_index].remove( p_index & 0xFFFF );
+
+        if ( m_containers[l_index].cardinality() == 0 )
+            this.delete( l_index );
+
+        return this;
+    }
+
+    /**
+     * logical and, the vector cannot be larger than the source
+     *
+     * @param p_source source vector
+     * @return self reference
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    @Nonnull
+    public CCompressedBitVector and( @Nonnull final CCompressedBitVector p_source )
+    {
+        this.checksize( p_source );
+
+        int l_length = 0;
+        for ( int i = 0, j = 0; i < m_length && j < p_source.m_length; )
+            if ( m_keys[i] < p_source.m_keys[j] )
+                i++;
+            else if ( m_keys[i] > p_source.m_keys[j] )
+                j++;
+            else
+            {
+                final IBaseContainer l_container = IBaseContainer.and( m_containers[i], p_source.m_containers[j] );
+                if ( l_container.cardinality() > 0 )
+                {
+                    m_keys[l_length] = m_keys[i];
+                    m_containers[l_length++] = l_container;
+                }
+                i++;
+                j++;
+            }
+
+        Arrays.fill( m_containers, l_length, m_length, null );
+        m_length = l_length;
+        return this;
+    }
+
+    /**
+     * logical or, the vector cannot be larger than the source
+     *
+     * @param p_source source vector
+     * @return self reference
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    @Nonnull
+    public CCompressedBitVector or( @Nonnull final CCompressedBitVector p_source )
+    {
+        return this.merge( p_source, false );
+    }
+
+    /**
+     * logical xor, the vector cannot be larger than the source
+     *
+     * @param p_source source vector
+     * @return self reference
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    @Nonnull
+    public CCompressedBitVector xor( @Nonnull final CCompressedBitVector p_source )
+    {
+        return this.merge( p_source, true );
+    }
+
+    /**
+     * logical not, chunks without set bits
+     * are stored as one run
+     *
+     * @return self reference
+     */
+    @Nonnull
+    public CCompressedBitVector not()
+    {
+        final int l_chunks = ( m_size + IBaseContainer.BITS - 1 ) >>> 16;
+        final char[] l_keys = new char[Math.max( 4, l_chunks )];
+        final IBaseContainer[] l_containers = new IBaseContainer[l_keys.length];
+        final IBaseContainer l_empty = new CRunContainer( new char[0], new char[0], 0 );
+
+        int l_length = 0;
+        for ( int i = 0, j = 0; i < l_chunks; i++ )
+        {
+            final boolean l_exists = j < m_length && m_keys[j] == i;
+            final IBaseContainer l_container = ( l_exists ? m_containers[j++] : l_empty ).not( this.limit( i ) );
+            if ( l_container.cardinality() > 0 )
+            {
+                l_keys[l_length] = (char) i;
+                l_containers[l_length++] = l_container;
+            }
+        }
+
+        m_keys = l_keys;
+        m_containers = l_containers;
+        m_length = l_length;
+        return this;
+    }
+
+    /**
+     * hamming distance, the distance is counted
+     * over the bits of this vector
+     *
+     * @param p_source source vector
+     * @return number of different bits
+     * @throws IllegalArgumentException if this vector is larger than the source
+     */
+    @Nonnegative
+    public int hammingdistance( @Nonnull final CCompressedBitVector p_source )
+    {
+        this.checksize( p_source );
+        final CCompressedBitVector l_source = p_source.m_size == m_size ? p_source : p_source.resize( m_size );
+
+        int l_distance = 0;
+        int i = 0;
+        int j = 0;
+        while ( i < m_length || j < l_source.m_length )
+            if ( j == l_source.m_length || i < m_length && m_keys[i] < l_source.m_keys[j] )
+                l_distance += m_containers[i++].cardinality();
+            else if ( i == m_length || m_keys[i] > l_source.m_keys[j] )
+                l_distance += l_source.m_containers[j++].cardinality();
+            else
+                l_distance += m_containers[i].cardinality() + l_source.m_containers[j].cardinality()
+                              - 2 * IBaseContainer.andcardinality( m_containers[i++], l_source.m_containers[j++] );
+
+        return l_distance;
+    }
+
+    /**
+     * copies the vector
+     *
+     * @return new vector
+     */
+    @Nonnull
+    public CCompressedBitVector copy()
+    {
+        return this.resize( m_size );
+    }
+
+    /**
+     * converts the vector into a dense bit vector
+     *
+     * @return dense bit vector
+     */
+    @Nonnull
+    public BitVector toBitVector()
+    {
+        final BitVector l_vector = new BitVector( m_size );
+        final long[] l_words = l_vector.elements();
+        for ( int i = 0; i < m_length; i++ )
+            m_containers[i].fill( l_words, m_keys[i] * IBaseContainer.WORDS );
+        return l_vector;
+    }
+
+    /**
+     * reads words, words of chunks
+     * without set bits are zero
+     *
+     * @param p_from first word index
+     * @param p_target target array
+     * @param p_offset offset within the target
+     * @param p_length number of words
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    public void read( @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        this.checkwords( p_from, p_length );
+        Arrays.fill( p_target, p_offset, p_offset + p_length, 0 );
+
+        for ( long i = p_from; i < p_from + p_length; )
+        {
+            final int l_first = (int) ( i & ( IBaseContainer.WORDS - 1 ) );
+            final int l_length = (int) Math.min( IBaseContainer.WORDS - l_first, p_from + p_length - i );
+            final int l_index = this.index( (int) ( i >>> 10 ) );
+            if ( l_index >= 0 )
+                System.arraycopy( m_containers[l_index].words(), l_first, p_target, (int) ( p_offset + i - p_from ), l_length );
+            i += l_length;
+        }
+    }
+
+    /**
+     * writes words, each changed chunk is
+     * rebuilt with the representation of the
+     * lowest memory, bits behind the size are ignored
+     *
+     * @param p_from first word index
+     * @param p_source source array
+     * @param p_offset offset within the source
+     * @param p_length number of words
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    public void write( @Nonnegative final long p_from, @Nonnull final long[] p_source, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        this.checkwords( p_from, p_length );
+
+        for ( long i = p_from; i < p_from + p_length; )
+        {
+            final int l_key = (int) ( i >>> 10 );
+            final int l_first = (int) ( i & ( IBaseContainer.WORDS - 1 ) );
+            final int l_length = (int) Math.min( IBaseContainer.WORDS - l_first, p_from + p_length - i );
+            final int l_index = this.index( l_key );
+
+            final long[] l_words = new long[IBaseContainer.WORDS];
+            if ( l_index >= 0 )
+                m_containers[l_index].fill( l_words, 0 );
+            System.arraycopy( p_source, (int) ( p_offset + i - p_from ), l_words, l_first, l_length );
+
+            final IBaseContainer l_container = CCompressedBitVector.chunk( l_words, this.limit( l_key ), 0 );
+            if ( l_container == null && l_index >= 0 )
+                this.delete( l_index );
+            else if ( l_container != null && l_index >= 0 )
+                m_containers[l_index] = l_container;
+            else if ( l_container != null )
+                this.insert( -l_index - 1, (char) l_key, l_container );
+
+            i += l_length;
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toBitVector().toString();
+    }
+
+    /**
+     * creates a copy with another size, bits
+     * behind the size are removed
+     *
+     * @param p_size number of bits
+     * @return new vector
+     */
+    @Nonnull
+    private CCompressedBitVector resize( @Nonnegative final int p_size )
+    {
+        final CCompressedBitVector l_vector = new CCompressedBitVector( p_size, m_keys.clone(), new IBaseContainer[m_keys.length], 0 );
+        for ( int i = 0; i < m_length && ( (long) m_keys[i] << 16 ) < p_size; i++ )
+        {
+            final IBaseContainer l_container = m_containers[i].limit( l_vector.limit( m_keys[i] ) );
+            if ( l_container.cardinality() > 0 )
+            {
+                l_vector.m_keys[l_vector.m_length] = m_keys[i];
+                l_vector.m_containers[l_vector.m_length++] = l_container;
+            }
+        }
+        return l_vector;
+    }
+
+    /**
+     * merges the source with a logical or / xor
+     *
+     * @param p_source source vector
+     * @param p_xor true for logical xor
+     * @return self reference
+     */
+    @Nonnull
+    private CCompressedBitVector merge( @Nonnull final CCompressedBitVector p_source, final boolean p_xor )
+    {
+        this.checksize( p_source );
+        final CCompressedBitVector l_source = p_source.m_size == m_size ? p_source : p_source.resize( m_size );
+
+        final char[] l_keys = new char[Math.max( 4, m_length + l_source.m_length )];
+        final IBaseContainer[] l_containers = new IBaseContainer[l_keys.length];
+        int l_length = 0;
+        int i = 0;
+        int j = 0;
+
+        while ( i < m_length || j < l_source.m_length )
+        {
+            final IBaseContainer l_container;
+            final char l_key;
+
+            if ( j == l_source.m_length || i < m_length && m_keys[i] < l_source.m_keys[j] )
+            {
+                l_key = m_keys[i];
+                l_container = m_containers[i++];
+            }
+            else if ( i == m_length || m_keys[i] > l_source.m_keys[j] )
+            {
+                l_key = l_source.m_keys[j];
+                l_container = l_source.m_containers[j++].copy();
+            }
+            else
+            {
+                l_key = m_keys[i];
+                l_container = p_xor
+                              ? IBaseContainer.xor( m_containers[i++], l_source.m_containers[j++] )
+                              : IBaseContainer.or( m_containers[i++], l_source.m_containers[j++] );
+            }
+
+            if ( l_container.cardinality() > 0 )
+            {
+                l_keys[l_length] = l_key;
+                l_containers[l_length++] = l_container;
+            }
+        }
+
+        m_keys = l_keys;
+        m_containers = l_containers;
+        m_length = l_length;
+        return this;
+    }
+
+    /**
+     * number of valid bits within a chunk
+     *
+     * @param p_key chunk key
+     * @return number of bits
+     */
+    @Nonnegative
+    private int limit( final int p_key )
+    {
+        return (int) Math.min( IBaseContainer.BITS, m_size - ( (long) p_key << 16 ) );
+    }
+
+    /**
+     * returns the position of a chunk key
+     *
+     * @param p_key chunk key
+     * @return position or negative insert position
+     */
+    private int index( final int p_key )
+    {
+        return Arrays.binarySearch( m_keys, 0, m_length, (char) p_key );
+    }
+
+    /**
+     * inserts a container
+     *
+     * @param p_index position
+     * @param p_key chunk key
+     * @param p_container container
+     */
+    private void insert( @Nonnegative final int p_index, final char p_key, @Nonnull final IBaseContainer p_container )
+    {
+        if ( m_length == m_keys.length )
+        {
+            m_keys = Arrays.copyOf( m_keys, Math.max( 4, 2 * m_length ) );
+            m_containers = Arrays.copyOf( m_containers, m_keys.length );
+        }
+
+        System.arraycopy( m_keys, p_index, m_keys, p_index + 1, m_length - p_index );
+        System.arraycopy( m_containers, p_index, m_containers, p_index + 1, m_length - p_index );
+        m_keys[p_index] = p_key;
+        m_containers[p_index] = p_container;
+        m_length++;
+    }
+
+    /**
+     * deletes a container
+     *
+     * @param p_index position
+     */
+    private void delete( @Nonnegative final int p_index )
+    {
+        System.arraycopy( m_keys, p_index + 1, m_keys, p_index, m_length - p_index - 1 );
+        System.arraycopy( m_containers, p_index + 1, m_containers, p_index, m_length - p_index - 1 );
+        m_containers[--m_length] = null;
+    }
+
+    /**
+     * checks an index
+     *
+     * @param p_index index
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    private void checkindex( final int p_index )
+    {
+        if ( p_index < 0 || p_index >= m_size )
+            throw new IndexOutOfBoundsException( "Attempted to access at index=" + p_index );
+    }
+
+    /**
+     * checks a word range
+     *
+     * @param p_from first word index
+     * @param p_length number of words
+     * @throws IndexOutOfBoundsException on wrong range
+     */
+    private void checkwords( final long p_from, final int p_length )
+    {
+        if ( p_from < 0 || p_length < 0 || p_from + p_length > ( m_size + 63L ) >>> 6 )
+            throw new IndexOutOfBoundsException( "from: " + p_from + ", length: " + p_length + ", words: " + ( ( m_size + 63L ) >>> 6 ) );
+    }
+
+    /**
+     * checks the size, the vector
+     * cannot be larger than the source
+     *
+     * @param p_source source vector
+     * @throws IllegalArgumentException on incompatible sizes
+     */
+    private void checksize( @Nonnull final CCompressedBitVector p_source )
+    {
+        if ( m_size > p_source.m_size )
+            throw new IllegalArgumentException( "Incompatible sizes: size=" + m_size + ", other.size()=" + p_source.m_size );
+    }
+
+    /**
+     * creates the container of a chunk of dense words,
+     * empty chunks are only counted
+     *
+     * @param p_words dense words
+     * @param p_size number of bits
+     * @param p_chunk chunk index
+     * @return container or null if the chunk is empty
+     */
+    private static IBaseContainer chunk( @Nonnull final long[] p_words, @Nonnegative final int p_size, @Nonnegative final int p_chunk )
+    {
+        final int l_from = p_chunk << 16;
+        final int l_to = (int) Math.min( p_size, (long) l_from + IBaseContainer.BITS );
+        final int l_cardinality = CKernel.cardinality( p_words, l_from, l_to );
+        if ( l_cardinality == 0 )
+            return null;
+
+        final long[] l_words = new long[IBaseContainer.WORDS];
+        System.arraycopy( p_words, l_from >>> 6, l_words, 0, ( ( l_to - l_from ) + 63 ) >>> 6 );
+        l_words[( ( l_to - l_from ) - 1 ) >>> 6] &= CKernel.tailmask( l_to );
+
+        return new CBitmapContainer( l_words, l_cardinality ).optimize();
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the hamming distance.
+ * The action calculates between compressed bit vectors,
+ * the distance will be calculated between the first
+ * and all other arguments, dense bit vectors are converted,
+ * the distance is calculated over the common containers
+ * only, so the time depends on the number of set bits
+ *
+ * {@code [A|B] = .math/bit/compressed/hammingdistance( Vector1, Vector2, Vector3 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Hamming_distance"></a>
+ */
+public final class CHammingDistance extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2593786304138755024L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CHammingDistance.class, "math", "bit", "compressed" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<CCompressedBitVector> l_arguments = CCommon.flatten( p_argument )
+                                                              .map( ITerm::raw )
+                                                              .map( CCompressedBitVector::of )
+                                                              .collect( Collectors.toList() );
+        if ( l_arguments.size() < 2 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 3 ) );
+
+        l_arguments.stream()
+                   .skip( 1 )
+                   .mapToDouble( i -> i.hammingdistance( l_arguments.get( 0 ) ) )
+                   .boxed()
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * container with sorted runs of set bits, each
+ * run is stored by the first and last index, it is
+ * used for containers with long ranges of set bits
+ */
+final class CRunContainer extends IBaseContainer
+{
+    /**
+     * first index of each run
+     */
+    private char[] m_starts;
+    /**
+     * last index of each run (inclusive)
+     */
+    private char[] m_ends;
+    /**
+     * number of runs
+     */
+    private int m_length;
+    /**
+     * number of set bits
+     */
+    private int m_cardinality;
+
+    /**
+     * ctor
+     *
+     * @param p_starts first index of each run
+     * @param p_ends last index of each run
+     * @param p_length number of runs
+     */
+    CRunContainer( @Nonnull final char[] p_starts, @Nonnull final char[] p_ends, @Nonnegative final int p_length )
+    {
+        m_starts = p_starts;
+        m_ends = p_ends;
+        m_length = p_length;
+        for ( int i = 0; i < m_length; i++ )
+            m_cardinality += m_ends[i] - m_starts[i] + 1;
+    }
+
+    @Override
+    final int cardinality()
+    {
+        return m_cardinality;
+    }
+
+    @Override
+    final int runs()
+    {
+        return m_length;
+    }
+
+    @Override
+    final boolean contains( final int p_value )
+    {
+        final int l_index = this.floor( p_value );
+        return l_index >= 0 && p_value <= m_ends[l_index];
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer add( final int p_value )
+    {
+        final int l_index = this.floor( p_value );
+        if ( l_index >= 0 && p_value <= m_ends[l_index] )
+            return this;
+
+        final boolean l_left = l_index >= 0 && m_ends[l_index] + 1 == p_value;
+        final boolean l_right = l_index + 1 < m_length && m_starts[l_index + 1] == p_value + 1;
+        m_cardinality++;
+
+        if ( l_left && l_right )
+        {
+            m_ends[l_index] = m_ends[l_index + 1];
+            this.delete( l_index + 1 );
+        }
+        else if ( l_left )
+            m_ends[l_index] = (char) p_value;
+        else if ( l_right )
+            m_starts[l_index + 1] = (char) p_value;
+        else
+            this.insert( l_index + 1, p_value, p_value );
+
+        return this.check();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer remove( final int p_value )
+    {
+        final int l_index = this.floor( p_value );
+        if ( l_index < 0 || p_value > m_ends[l_index] )
+            return this;
+
+        m_cardinality--;
+        if ( m_starts[l_index] == m_ends[l_index] )
+            this.delete( l_index );
+        else if ( m_starts[l_index] == p_value )
+            m_starts[l_index]++;
+        else if ( m_ends[l_index] == p_value )
+            m_ends[l_index]--;
+        else
+        {
+            this.insert( l_index + 1, p_value + 1, m_ends[l_index] );
+            m_ends[l_index] = (char) ( p_value - 1 );
+        }
+
+        return this.check();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer not( @Nonnegative final int p_limit )
+    {
+        final char[] l_starts = new char[m_length + 1];
+        final char[] l_ends = new char[m_length + 1];
+        int l_length = 0;
+        int l_next = 0;
+
+        for ( int i = 0; i < m_length; i++ )
+        {
+            if ( m_starts[i] > l_next )
+            {
+                l_starts[l_length] = (char) l_next;
+                l_ends[l_length++] = (char) ( m_starts[i] - 1 );
+            }
+            l_next = m_ends[i] + 1;
+        }
+
+        if ( l_next < p_limit )
+        {
+            l_starts[l_length] = (char) l_next;
+            l_ends[l_length++] = (char) ( p_limit - 1 );
+        }
+
+        return new CRunContainer( l_starts, l_ends, l_length ).optimize();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer limit( @Nonnegative final int p_limit )
+    {
+        final char[] l_starts = new char[Math.max( 1, m_length )];
+        final char[] l_ends = new char[l_starts.length];
+        int l_length = 0;
+
+        for ( int i = 0; i < m_length && m_starts[i] < p_limit; i++ )
+        {
+            l_starts[l_length] = m_starts[i];
+            l_ends[l_length++] = (char) Math.min( m_ends[i], p_limit - 1 );
+        }
+
+        return new CRunContainer( l_starts, l_ends, l_length ).optimize();
+    }
+
+    @Nonnull
+    @Override
+    final IBaseContainer copy()
+    {
+        return new CRunContainer( m_starts.clone(), m_ends.clone(), m_length );
+    }
+
+    @Nonnull
+    @Override
+    final long[] words()
+    {
+        final long[] l_words = new long[WORDS];
+        this.fill( l_words, 0 );
+        return l_words;
+    }
+
+    @Nonnull
+    @Override
+    final CBitmapContainer bitmap()
+    {
+        return new CBitmapContainer( this.words(), m_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final CArrayContainer array()
+    {
+        final char[] l_values = new char[Math.max( 4, m_cardinality )];
+        int l_cardinality = 0;
+        for ( int i = 0; i < m_length; i++ )
+            for ( int j = m_starts[i]; j <= m_ends[i]; j++ )
+                l_values[l_cardinality++] = (char) j;
+
+        return new CArrayContainer( l_values, l_cardinality );
+    }
+
+    @Nonnull
+    @Override
+    final CRunContainer run()
+    {
+        return this;
+    }
+
+    @Override
+    final void fill( @Nonnull final long[] p_words, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < m_length; i++ )
+        {
+            final int l_first = p_offset + ( m_starts[i] >>> 6 );
+            final int l_last = p_offset + ( m_ends[i] >>> 6 );
+            final long l_firstmask = -1L << m_starts[i];
+            final long l_lastmask = -1L >>> ( 63 - ( m_ends[i] & 63 ) );
+
+            if ( l_first == l_last )
+            {
+                p_words[l_first] |= l_firstmask & l_lastmask;
+                continue;
+            }
+
+            p_words[l_first] |= l_firstmask;
+            for ( int j = l_first + 1; j < l_last; j++ )
+                p_words[j] = -1L;
+            p_words[l_last] |= l_lastmask;
+        }
+    }
+
+    /**
+     * converts the container if the run representation
+     * needs more memory than the other representations
+     *
+     * @return resulting container
+     */
+    @Nonnull
+    private IBaseContainer check()
+    {
+        return 4 * m_length > Math.min( 2 * m_cardinality, 8 * WORDS ) ? this.optimize() : this;
+    }
+
+    /**
+     * returns the index of the last run, which
+     * starts at or before the value
+     *
+     * @param p_value value
+     * @return run index or -1
+     */
+    private int floor( final int p_value )
+    {
+        final int l_index = Arrays.binarySearch( m_starts, 0, m_length, (char) p_value );
+        return l_index >= 0 ? l_index : -l_index - 2;
+    }
+
+    /**
+     * inserts a run
+     *
+     * @param p_index run index
+     * @param p_start first index of the run
+     * @param p_end last index of the run
+     */
+    private void insert( @Nonnegative final int p_index, final int p_start, final int p_end )
+    {
+        if ( m_length == m_starts.length )
+        {
+            m_starts = Arrays.copyOf( m_starts, Math.max( 4, 2 * m_length ) );
+            m_ends = Arrays.copyOf( m_ends, m_starts.length );
+        }
+
+        System.arraycopy( m_starts, p_index, m_starts, p_index + 1, m_length - p_index );
+        System.arraycopy( m_ends, p_index, m_ends, p_index + 1, m_length - p_index );
+        m_starts[p_index] = (char) p_start;
+        m_ends[p_index] = (char) p_end;
+        m_length++;
+    }
+
+    /**
+     * deletes a run
+     *
+     * @param p_index run index
+     */
+    private void delete( @Nonnegative final int p_index )
+    {
+        System.arraycopy( m_starts, p_index + 1, m_starts, p_index, m_length - p_index - 1 );
+        System.arraycopy( m_ends, p_index + 1, m_ends, p_index, m_length - p_index - 1 );
+        m_length--;
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * container of 2^16 bits within a compressed bit vector.
+ * A container stores the lower 16 bits of the indices
+ * of a key, the operations return the resulting container,
+ * which can be the same or a new container, binary
+ * operations do not modify the arguments
+ */
+abstract class IBaseContainer
+{
+    /**
+     * number of bits within a container
+     */
+    static final int BITS = 1 << 16;
+    /**
+     * number of words of a bitmap container
+     */
+    static final int WORDS = BITS >>> 6;
+    /**
+     * maximum cardinality of an array container
+     */
+    static final int ARRAYSIZE = 4096;
+
+    /**
+     * number of set bits
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    abstract int cardinality();
+
+    /**
+     * number of runs of set bits
+     *
+     * @return number of runs
+     */
+    @Nonnegative
+    abstract int runs();
+
+    /**
+     * checks if a bit is set
+     *
+     * @param p_value lower bits of the index
+     * @return bit value
+     */
+    abstract boolean contains( final int p_value );
+
+    /**
+     * sets a bit
+     *
+     * @param p_value lower bits of the index
+     * @return resulting container
+     */
+    @Nonnull
+    abstract IBaseContainer add( final int p_value );
+
+    /**
+     * clears a bit
+     *
+     * @param p_value lower bits of the index
+     * @return resulting container
+     */
+    @Nonnull
+    abstract IBaseContainer remove( final int p_value );
+
+    /**
+     * flips all bits below the limit
+     *
+     * @param p_limit number of valid bits
+     * @return new container
+     */
+    @Nonnull
+    abstract IBaseContainer not( @Nonnegative final int p_limit );
+
+    /**
+     * clears all bits at or above the limit
+     *
+     * @param p_limit number of valid bits
+     * @return resulting container
+     */
+    @Nonnull
+    abstract IBaseContainer limit( @Nonnegative final int p_limit );
+
+    /**
+     * copies the container
+     *
+     * @return new container
+     */
+    @Nonnull
+    abstract IBaseContainer copy();
+
+    /**
+     * returns the bitmap words, the array must
+     * not be modified
+     *
+     * @return words
+     */
+    @Nonnull
+    abstract long[] words();
+
+    /**
+     * converts the container into a bitmap container
+     *
+     * @return new bitmap container
+     */
+    @Nonnull
+    abstract CBitmapContainer bitmap();
+
+    /**
+     * converts the container into an array container
+     *
+     * @return array container
+     */
+    @Nonnull
+    abstract CArrayContainer array();
+
+    /**
+     * converts the container into a run container
+     *
+     * @return run container
+     */
+    @Nonnull
+    abstract CRunContainer run();
+
+    /**
+     * writes the bits into dense words
+     *
+     * @param p_words target words
+     * @param p_offset word offset of the container
+     */
+    abstract void fill( @Nonnull final long[] p_words, @Nonnegative final int p_offset );
+
+    /**
+     * converts the container into the representation
+     * with the lowest memory usage, an array container
+     * needs 2 bytes per bit, a run container 4 bytes
+     * per run and a bitmap container 8 KiB
+     *
+     * @return resulting container
+     */
+    @Nonnull
+    final IBaseContainer optimize()
+    {
+        final int l_cardinality = this.cardinality();
+        final int l_array = l_cardinality <= ARRAYSIZE ? 2 * l_cardinality : Integer.MAX_VALUE;
+        if ( 4 * this.runs() < Math.min( l_array, 8 * WORDS ) )
+            return this.run();
+
+        return l_cardinality <= ARRAYSIZE ? this.array() : this.bitmap();
+    }
+
+    /**
+     * logical and of two containers
+     *
+     * @param p_left left container
+     * @param p_right right container
+     * @return new container
+     */
+    @Nonnull
+    static IBaseContainer and( @Nonnull final IBaseContainer p_left, @Nonnull final IBaseContainer p_right )
+    {
+        if ( p_left instanceof CArrayContainer )
+            return ( (CArrayContainer) p_left ).filter( p_right );
+        if ( p_right instanceof CArrayContainer )
+            return ( (CArrayContainer) p_right ).filter( p_left );
+
+        final CBitmapContainer l_result = p_left.bitmap();
+        l_result.and( p_right.words() );
+        return l_result.optimize();
+    }
+
+    /**
+     * number of set bits of the logical and
+     * of two containers without creating the result
+     *
+     * @param p_left left container
+     * @param p_right right container
+     * @return cardinality
+     */
+    @Nonnegative
+    static int andcardinality( @Nonnull final IBaseContainer p_left, @Nonnull final IBaseContainer p_right )
+    {
+        if ( p_left instanceof CArrayContainer )
+            return ( (CArrayContainer) p_left ).count( p_right );
+        if ( p_right instanceof CArrayContainer )
+            return ( (CArrayContainer) p_right ).count( p_left );
+
+        final long[] l_left = p_left.words();
+        final long[] l_right = p_right.words();
+        int l_count = 0;
+        for ( int i = 0; i < WORDS; i++ )
+            l_count += Long.bitCount( l_left[i] & l_right[i] );
+        return l_count;
+    }
+
+    /**
+     * logical or of two containers
+     *
+     * @param p_left left container
+     * @param p_right right container
+     * @return new container
+     */
+    @Nonnull
+    static IBaseContainer or( @Nonnull final IBaseContainer p_left, @Nonnull final IBaseContainer p_right )
+    {
+        if ( p_left instanceof CArrayContainer && p_right instanceof CArrayContainer )
+            return ( (CArrayContainer) p_left ).merge( (CArrayContainer) p_right, false );
+
+        final boolean l_array = p_left instanceof CArrayContainer;
+        final CBitmapContainer l_result = ( l_array ? p_right : p_left ).bitmap();
+        final IBaseContainer l_other = l_array ? p_left : p_right;
+
+        if ( l_other instanceof CArrayContainer )
+            ( (CArrayContainer) l_other ).set( l_result );
+        else
+            l_result.or( l_other.words() );
+
+        return l_result.optimize();
+    }
+
+    /**
+     * logical xor of two containers
+     *
+     * @param p_left left container
+     * @param p_right right container
+     * @return new container
+     */
+    @Nonnull
+    static IBaseContainer xor( @Nonnull final IBaseContainer p_left, @Nonnull final IBaseContainer p_right )
+    {
+        if ( p_left instanceof CArrayContainer && p_right instanceof CArrayContainer )
+            return ( (CArrayContainer) p_left ).merge( (CArrayContainer) p_right, true );
+
+        final boolean l_array = p_left instanceof CArrayContainer;
+        final CBitmapContainer l_result = ( l_array ? p_right : p_left ).bitmap();
+        final IBaseContainer l_other = l_array ? p_left : p_right;
+
+        if ( l_other instanceof CArrayContainer )
+            ( (CArrayContainer) l_other ).flip( l_result );
+        else
+            l_result.xor( l_other.words() );
+
+        return l_result.optimize();
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.compressed;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * defines an abstract operator for compressed bit vectors.
+ * The first argument is the source, which can also be
+ * a dense bit vector and will be converted, the operator
+ * is applied to all other compressed bit vectors, only
+ * containers with set bits are processed
+ */
+public abstract class IBaseOperator extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2861797427604373413L;
+
+    @Nonnegative
+    @Override
+    public final int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final CCompressedBitVector l_source = CCompressedBitVector.of( l_arguments.get( 0 ).<Object>raw() ).copy();
+
+        l_arguments.stream()
+                   .skip( 1 )
+                   .map( ITerm::<CCompressedBitVector>raw )
+                   .forEach( i -> this.apply( i, l_source ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * apply method to apply operation
+     *
+     * @param p_target compressed bit vector which will modifed
+     * @param p_source source compressed bit vector
+     */
+    protected abstract void apply( @Nonnull final CCompressedBitVector p_target, @Nonnull final CCompressedBitVector p_source );
+}
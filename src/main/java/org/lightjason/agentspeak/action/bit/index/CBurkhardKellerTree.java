@@ -0,0 +1,343 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.index;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * Burkhard-Keller tree for hamming range queries.
+ * The tree uses the hamming metric, vectors with different
+ * size are compared with zero padding, so for vectors with
+ * equal size the distance is equal to the hamming distance
+ * action, each child of a node is stored with the distance to
+ * the node, so a query visits only children within the
+ * triangle inequality, equal vectors are stored within one
+ * node, vectors which differ only by trailing zero bits
+ * are stored as children with distance zero, the index
+ * stores copies of the vectors
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/BK-tree"></a>
+ */
+public final class CBurkhardKellerTree implements IIndex
+{
+    /**
+     * minimal number of vectors for building
+     * a subtree in parallel
+     */
+    private static final int PARALLELSIZE = 1024;
+    /**
+     * lock
+     */
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    /**
+     * root node
+     */
+    private CNode m_root;
+    /**
+     * number of vectors
+     */
+    private int m_size;
+
+    /**
+     * ctor
+     */
+    public CBurkhardKellerTree()
+    {
+        this( Collections.emptyList() );
+    }
+
+    /**
+     * ctor with bulk-build, subtrees
+     * are build in parallel
+     *
+     * @param p_vectors vectors
+     */
+    public CBurkhardKellerTree( @Nonnull final List<BitVector> p_vectors )
+    {
+        m_root = p_vectors.isEmpty() ? null : CBurkhardKellerTree.build( p_vectors.stream().map( BitVector::copy ).collect( Collectors.toList() ) );
+        m_size = p_vectors.size();
+    }
+
+    @Nonnegative
+    @Override
+    public int size()
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            return m_size;
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public IIndex insert( @Nonnull final BitVector p_vector )
+    {
+        final BitVector l_vector = p_vector.copy();
+
+        m_lock.writeLock().lock();
+        try
+        {
+            m_size++;
+            if ( m_root == null )
+            {
+                m_root = new CNode( l_vector );
+                return this;
+            }
+
+            CNode l_node = m_root;
+            while ( true )
+            {
+                final int l_distance = CKernel.hammingmetric( l_node.m_vector, l_vector );
+                if ( l_distance == 0 && l_node.m_vector.size() == l_vector.size() )
+                {
+                    l_node.m_count++;
+                    return this;
+                }
+
+                final CNode l_child = l_node.child( l_distance );
+                if ( l_child == null )
+                {
+                    l_node.add( l_distance, new CNode( l_vector ) );
+                    return this;
+                }
+                l_node = l_child;
+            }
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove( @Nonnull final BitVector p_vector )
+    {
+        m_lock.writeLock().lock();
+        try
+        {
+            CNode l_node = m_root;
+            while ( l_node != null )
+            {
+                final int l_distance = CKernel.hammingmetric( l_node.m_vector, p_vector );
+                if ( l_distance == 0 && l_node.m_vector.size() == p_vector.size() )
+                {
+                    if ( l_node.m_count == 0 )
+                        return false;
+
+                    l_node.m_count--;
+                    m_size--;
+                    return true;
+                }
+                l_node = l_node.child( l_distance );
+            }
+            return false;
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<BitVector> query( @Nonnull final BitVector p_vector, @Nonnegative final int p_radius )
+    {
+        final List<BitVector> l_result = new ArrayList<>();
+
+        m_lock.readLock().lock();
+        try
+        {
+            if ( m_root == null )
+                return l_result;
+
+            final Deque<CNode> l_stack = new ArrayDeque<>();
+            l_stack.push( m_root );
+
+            while ( !l_stack.isEmpty() )
+            {
+                final CNode l_node = l_stack.pop();
+                final int l_distance = CKernel.hammingmetric( l_node.m_vector, p_vector );
+                if ( l_distance <= p_radius )
+                    for ( int i = 0; i < l_node.m_count; i++ )
+                        l_result.add( l_node.m_vector.copy() );
+
+                for ( int i = l_node.lower( l_distance - p_radius ); i < l_node.m_size && l_node.m_keys[i] <= l_distance + p_radius; i++ )
+                    l_stack.push( l_node.m_children[i] );
+            }
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+
+        return l_result;
+    }
+
+    /**
+     * builds a subtree, the first vector is the root and
+     * all other vectors are grouped by the distance to the
+     * root, each group is build as an independent subtree
+     *
+     * @param p_vectors non-empty list of vectors
+     * @return root node
+     */
+    @Nonnull
+    private static CNode build( @Nonnull final List<BitVector> p_vectors )
+    {
+        final CNode l_root = new CNode( p_vectors.get( 0 ) );
+        final Stream<BitVector> l_stream = p_vectors.subList( 1, p_vectors.size() ).stream();
+        final Map<Integer, List<BitVector>> l_groups = ( p_vectors.size() > PARALLELSIZE ? l_stream.parallel() : l_stream )
+            .collect( Collectors.groupingBy( i -> CKernel.hammingmetric( l_root.m_vector, i ) ) );
+
+        final List<BitVector> l_zero = l_groups.remove( 0 );
+        if ( l_zero != null )
+        {
+            final List<BitVector> l_padded = l_zero.stream().filter( i -> i.size() != l_root.m_vector.size() ).collect( Collectors.toList() );
+            l_root.m_count += l_zero.size() - l_padded.size();
+            if ( !l_padded.isEmpty() )
+                l_groups.put( 0, l_padded );
+        }
+
+        l_root.m_keys = l_groups.keySet().stream().mapToInt( i -> i ).sorted().toArray();
+        l_root.m_size = l_root.m_keys.length;
+
+        final IntStream l_children = IntStream.range( 0, l_root.m_size );
+        l_root.m_children = ( p_vectors.size() > PARALLELSIZE ? l_children.parallel() : l_children )
+            .mapToObj( i -> CBurkhardKellerTree.build( l_groups.get( l_root.m_keys[i] ) ) )
+            .toArray( CNode[]::new );
+
+        return l_root;
+    }
+
+
+    /**
+     * tree node
+     */
+    private static final class CNode
+    {
+        /**
+         * vector
+         */
+        private final BitVector m_vector;
+        /**
+         * number of equal vectors, zero
+         * if all vectors are removed
+         */
+        private int m_count = 1;
+        /**
+         * sorted distances of the children
+         */
+        private int[] m_keys = new int[0];
+        /**
+         * children
+         */
+        private CNode[] m_children = new CNode[0];
+        /**
+         * number of children
+         */
+        private int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_vector vector
+         */
+        CNode( @Nonnull final BitVector p_vector )
+        {
+            m_vector = p_vector;
+        }
+
+        /**
+         * returns the index of the first child
+         * with a distance not lower than the value
+         *
+         * @param p_distance distance
+         * @return child index
+         */
+        final int lower( final int p_distance )
+        {
+            final int l_index = Arrays.binarySearch( m_keys, 0, m_size, p_distance );
+            return l_index < 0 ? -l_index - 1 : l_index;
+        }
+
+        /**
+         * returns the child with a distance
+         *
+         * @param p_distance distance
+         * @return child or null
+         */
+        @Nullable
+        final CNode child( final int p_distance )
+        {
+            final int l_index = this.lower( p_distance );
+            return l_index < m_size && m_keys[l_index] == p_distance ? m_children[l_index] : null;
+        }
+
+        /**
+         * adds a child
+         *
+         * @param p_distance distance
+         * @param p_child child
+         */
+        final void add( final int p_distance, @Nonnull final CNode p_child )
+        {
+            final int l_index = this.lower( p_distance );
+            if ( m_size == m_keys.length )
+            {
+                m_keys = Arrays.copyOf( m_keys, Math.max( 4, 2 * m_size ) );
+                m_children = Arrays.copyOf( m_children, m_keys.length );
+            }
+
+            System.arraycopy( m_keys, l_index, m_keys, l_index + 1, m_size - l_index );
+            System.arraycopy( m_children, l_index, m_children, l_index + 1, m_size - l_index );
+            m_keys[l_index] = p_distance;
+            m_children[l_index] = p_child;
+            m_size++;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.index;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * creates a multi-index hashing index.
+ * The first argument is the number of bits of the
+ * vectors, the second argument is the number of
+ * substrings (each substring can contain at most
+ * 64 bits), all other arguments are bit vectors, which
+ * are inserted into the index, the action returns
+ * the index and fails on wrong substring number
+ *
+ * {@code I = .math/bit/index/multiindex( 256, 4, Vector1, [Vector2, Vector3] );}
+ *
+ * @see <a href="https://arxiv.org/abs/1307.2982"></a>
+ */
+public final class CMultiIndex extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3306278426391577513L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMultiIndex.class, "math", "bit", "index" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final IIndex l_index = new CMultiIndexHashing( l_arguments.get( 0 ).<Number>raw().intValue(), l_arguments.get( 1 ).<Number>raw().intValue() );
+
+        l_arguments.stream()
+                   .skip( 2 )
+                   .map( ITerm::raw ).map( CVectorAccessor::dense )
+                   .forEach( l_index::insert );
+
+        p_return.add( CRawTerm.of( l_index ) );
+
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.index;
+
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.map.tlong.OpenLongIntHashMap;
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * multi-index hashing for hamming range queries.
+ * Each vector is split into m disjoint substrings of at most
+ * 64 bits and each substring is stored within its own hash table,
+ * vectors within a radius r have at least one substring within
+ * the radius r / m, so a query probes only the substrings
+ * around the query substrings and verifies the candidates,
+ * the index stores copies of the vectors
+ *
+ * @see <a href="https://arxiv.org/abs/1307.2982"></a>
+ */
+public final class CMultiIndexHashing implements IIndex
+{
+    /**
+     * number of bits of each vector
+     */
+    private final int m_bits;
+    /**
+     * first bit of each substring, the last
+     * element is the number of bits
+     */
+    private final int[] m_bounds;
+    /**
+     * hash tables of each substring, maps the substring
+     * to the first entry index + 1 of the chain
+     */
+    private final OpenLongIntHashMap[] m_tables;
+    /**
+     * chains of each table, maps the entry index
+     * to the next entry index + 1 (0 is the end)
+     */
+    private final IntArrayList[] m_chains;
+    /**
+     * entries, removed entries are null
+     */
+    private final List<BitVector> m_entries = new ArrayList<>();
+    /**
+     * free entry indices
+     */
+    private final IntArrayList m_free = new IntArrayList();
+    /**
+     * lock
+     */
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    /**
+     * number of vectors
+     */
+    private int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_bits number of bits of each vector
+     * @param p_substrings number of substrings
+     */
+    public CMultiIndexHashing( @Nonnegative final int p_bits, @Nonnegative final int p_substrings )
+    {
+        if ( p_substrings < 1 || p_substrings > Math.max( 1, p_bits ) || ( p_bits + p_substrings - 1 ) / p_substrings > 64 )
+            throw new IllegalArgumentException( "number of substrings must be within [" + Math.max( 1, ( p_bits + 63 ) / 64 ) + ", " + Math.max( 1, p_bits ) + "]" );
+
+        m_bits = p_bits;
+        m_bounds = IntStream.rangeClosed( 0, p_substrings ).map( i -> (int) ( (long) i * p_bits / p_substrings ) ).toArray();
+        m_tables = IntStream.range( 0, p_substrings ).mapToObj( i -> new OpenLongIntHashMap() ).toArray( OpenLongIntHashMap[]::new );
+        m_chains = IntStream.range( 0, p_substrings ).mapToObj( i -> new IntArrayList() ).toArray( IntArrayList[]::new );
+    }
+
+    @Nonnegative
+    @Override
+    public int size()
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            return m_size;
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public IIndex insert( @Nonnull final BitVector p_vector )
+    {
+        this.checksize( p_vector );
+        final BitVector l_vector = p_vector.copy();
+
+        m_lock.writeLock().lock();
+        try
+        {
+            final int l_index;
+            if ( m_free.isEmpty() )
+            {
+                l_index = m_entries.size();
+                m_entries.add( l_vector );
+                for ( final IntArrayList l_chain : m_chains )
+                    l_chain.add( 0 );
+            }
+            else
+            {
+                l_index = m_free.getQuick( m_free.size() - 1 );
+                m_free.remove( m_free.size() - 1 );
+                m_entries.set( l_index, l_vector );
+            }
+
+            for ( int i = 0; i < m_tables.length; i++ )
+            {
+                final long l_key = this.key( l_vector, i );
+                m_chains[i].setQuick( l_index, m_tables[i].get( l_key ) );
+                m_tables[i].put( l_key, l_index + 1 );
+            }
+
+            m_size++;
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+
+        return this;
+    }
+
+    @Override
+    public boolean remove( @Nonnull final BitVector p_vector )
+    {
+        this.checksize( p_vector );
+
+        m_lock.writeLock().lock();
+        try
+        {
+            int l_index = -1;
+            for ( int i = m_tables[0].get( this.key( p_vector, 0 ) ); i > 0; i = m_chains[0].getQuick( i - 1 ) )
+                if ( CKernel.hammingdistance( m_entries.get( i - 1 ).elements(), p_vector.elements(), m_bits ) == 0 )
+                {
+                    l_index = i - 1;
+                    break;
+                }
+
+            if ( l_index < 0 )
+                return false;
+
+            for ( int i = 0; i < m_tables.length; i++ )
+                this.unlink( i, this.key( m_entries.get( l_index ), i ), l_index );
+
+            m_entries.set( l_index, null );
+            m_free.add( l_index );
+            m_size--;
+            return true;
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public List<BitVector> query( @Nonnull final BitVector p_vector, @Nonnegative final int p_radius )
+    {
+        this.checksize( p_vector );
+        final long[] l_query = p_vector.elements();
+        final List<BitVector> l_result = new ArrayList<>();
+
+        m_lock.readLock().lock();
+        try
+        {
+            // probing is more expensive than a linear scan on large radii
+            final int l_radius = p_radius / m_tables.length;
+            if ( this.probes( l_radius ) >= m_size )
+                return m_entries.stream()
+                                .filter( Objects::nonNull )
+                                .filter( i -> CKernel.hammingdistance( i.elements(), l_query, m_bits, p_radius ) <= p_radius )
+                                .map( BitVector::copy )
+                                .collect( Collectors.toList() );
+
+            final BitVector l_visited = new BitVector( m_entries.size() );
+            final IntConsumer l_consumer = i ->
+            {
+                if ( l_visited.getQuick( i ) )
+                    return;
+
+                l_visited.putQuick( i, true );
+                if ( CKernel.hammingdistance( m_entries.get( i ).elements(), l_query, m_bits, p_radius ) <= p_radius )
+                    l_result.add( m_entries.get( i ).copy() );
+            };
+
+            for ( int i = 0; i < m_tables.length; i++ )
+                this.probe( i, this.key( p_vector, i ), 0, l_radius, l_consumer );
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+
+        return l_result;
+    }
+
+    /**
+     * probes all substrings within a radius around a key
+     *
+     * @param p_table table index
+     * @param p_key key
+     * @param p_position first bit position, which can be flipped
+     * @param p_radius number of bits, which can be flipped
+     * @param p_consumer consumer of the entry indices
+     */
+    private void probe( @Nonnegative final int p_table, final long p_key, @Nonnegative final int p_position, @Nonnegative final int p_radius,
+                        @Nonnull final IntConsumer p_consumer )
+    {
+        for ( int i = m_tables[p_table].get( p_key ); i > 0; i = m_chains[p_table].getQuick( i - 1 ) )
+            p_consumer.accept( i - 1 );
+
+        if ( p_radius > 0 )
+            for ( int i = p_position; i < m_bounds[p_table + 1] - m_bounds[p_table]; i++ )
+                this.probe( p_table, p_key ^ ( 1L << i ), i + 1, p_radius - 1, p_consumer );
+    }
+
+    /**
+     * number of probes of a query
+     *
+     * @param p_radius radius of each substring
+     * @return number of probes
+     */
+    private double probes( @Nonnegative final int p_radius )
+    {
+        double l_probes = 0;
+        for ( int i = 0; i < m_tables.length; i++ )
+        {
+            final int l_length = m_bounds[i + 1] - m_bounds[i];
+            double l_binomial = 1;
+            for ( int j = 0; j <= Math.min( p_radius, l_length ); j++ )
+            {
+                l_probes += l_binomial;
+                l_binomial = l_binomial * ( l_length - j ) / ( j + 1 );
+            }
+        }
+        return l_probes;
+    }
+
+    /**
+     * removes an entry from a chain
+     *
+     * @param p_table table index
+     * @param p_key key
+     * @param p_index entry index
+     */
+    private void unlink( @Nonnegative final int p_table, final long p_key, @Nonnegative final int p_index )
+    {
+        final int l_next = m_chains[p_table].getQuick( p_index );
+        int l_previous = 0;
+
+        for ( int i = m_tables[p_table].get( p_key ); i > 0; i = m_chains[p_table].getQuick( i - 1 ) )
+        {
+            if ( i - 1 == p_index )
+            {
+                if ( l_previous > 0 )
+                    m_chains[p_table].setQuick( l_previous - 1, l_next );
+                else if ( l_next > 0 )
+                    m_tables[p_table].put( p_key, l_next );
+                else
+                    m_tables[p_table].removeKey( p_key );
+                return;
+            }
+            l_previous = i;
+        }
+    }
+
+    /**
+     * returns the substring key of a vector
+     *
+     * @param p_vector vector
+     * @param p_table table index
+     * @return substring as long
+     */
+    private long key( @Nonnull final BitVector p_vector, @Nonnegative final int p_table )
+    {
+        return m_bounds[p_table + 1] == m_bounds[p_table] ? 0 : p_vector.getLongFromTo( m_bounds[p_table], m_bounds[p_table + 1] - 1 );
+    }
+
+    /**
+     * checks the size of a vector
+     *
+     * @param p_vector vector
+     */
+    private void checksize( @Nonnull final BitVector p_vector )
+    {
+        if ( p_vector.size() != m_bits )
+            throw new IllegalArgumentException( "Incompatible sizes: size=" + p_vector.size() + ", index size=" + m_bits );
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.index;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.stream.IntStream;
+
+
+/**
+ * rank / select index of a bit vector.
+ * The index uses the rank9 layout, for each block of 512 bits
+ * the number of set bits before the block and the relative counts
+ * of the seven following words (9 bits each) are stored within two
+ * interleaved words, so a rank is answered with two counter reads
+ * and one bit count, for a select every 512th set bit is sampled
+ * with the block, so only the blocks between two samples are searched
+ * binary, the index stores a copy of the words, so changes of
+ * the vector after the build do not change the index, the index
+ * must be build again to see the changes
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Succinct_data_structure"></a>
+ */
+public final class CRankSelectIndex
+{
+    /**
+     * number of set bits between two select samples
+     */
+    private static final int SAMPLE = 512;
+    /**
+     * minimal number of blocks for a parallel build
+     */
+    private static final int PARALLELBLOCKS = 1024;
+    /**
+     * mask of a relative count
+     */
+    private static final long RELATIVEMASK = 0x1FF;
+    /**
+     * copy of the words of the vector
+     */
+    private final long[] m_words;
+    /**
+     * number of bits
+     */
+    private final int m_size;
+    /**
+     * interleaved absolute and relative counts of each block,
+     * the last pair stores the number of all set bits
+     */
+    private final long[] m_counts;
+    /**
+     * block of each sampled set bit, the last
+     * value is the last block
+     */
+    private final int[] m_samples;
+
+    /**
+     * ctor
+     *
+     * @param p_vector bit vector
+     */
+    public CRankSelectIndex( @Nonnull final BitVector p_vector )
+    {
+        m_words = p_vector.elements().clone();
+        m_size = p_vector.size();
+
+        final int l_blocks = ( m_size + 511 ) >>> 9;
+        m_counts = new long[2 * l_blocks + 2];
+
+        final IntStream l_stream = IntStream.range( 0, l_blocks );
+        ( l_blocks >= PARALLELBLOCKS ? l_stream.parallel() : l_stream ).forEach( this::block );
+
+        long l_count = 0;
+        for ( int i = 0; i < l_blocks; i++ )
+        {
+            final long l_block = m_counts[2 * i];
+            m_counts[2 * i] = l_count;
+            l_count += l_block;
+        }
+        m_counts[2 * l_blocks] = l_count;
+
+        m_samples = new int[(int) ( ( l_count + SAMPLE - 1 ) / SAMPLE ) + 1];
+        for ( int i = 0, j = 0; i < l_blocks; i++ )
+            while ( j < m_samples.length - 1 && (long) j * SAMPLE < m_counts[2 * i + 2] )
+                m_samples[j++] = i;
+        m_samples[m_samples.length - 1] = Math.max( 0, l_blocks - 1 );
+    }
+
+    /**
+     * number of bits
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * number of set bits
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    public int cardinality()
+    {
+        return (int) m_counts[m_counts.length - 2];
+    }
+
+    /**
+     * number of set bits before an index
+     *
+     * @param p_index bit index (exclusive), the size returns the cardinality
+     * @return rank
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    @Nonnegative
+    public int rank( final int p_index )
+    {
+        if ( p_index < 0 || p_index > m_size )
+            throw new IndexOutOfBoundsException( "Attempted to access at index=" + p_index );
+
+        final int l_block = p_index >>> 9;
+        final int l_word = ( p_index >>> 6 ) & 7;
+
+        long l_rank = m_counts[2 * l_block];
+        if ( l_word > 0 )
+            l_rank += ( m_counts[2 * l_block + 1] >>> ( 9 * ( l_word - 1 ) ) ) & RELATIVEMASK;
+        if ( ( p_index & 63 ) != 0 )
+            l_rank += Long.bitCount( m_words[p_index >>> 6] & ( ( 1L << p_index ) - 1 ) );
+
+        return (int) l_rank;
+    }
+
+    /**
+     * index of a set bit
+     *
+     * @param p_rank number of set bits before the bit, so zero returns the first set bit
+     * @return bit index
+     * @throws IndexOutOfBoundsException if the rank is not lower than the cardinality
+     */
+    @Nonnegative
+    public int select( final int p_rank )
+    {
+        if ( p_rank < 0 || p_rank >= this.cardinality() )
+            throw new IndexOutOfBoundsException( "rank: " + p_rank + ", cardinality: " + this.cardinality() );
+
+        int l_block = m_samples[p_rank / SAMPLE];
+        int l_last = m_samples[p_rank / SAMPLE + 1];
+        while ( l_block < l_last )
+        {
+            final int l_middle = ( l_block + l_last + 1 ) >>> 1;
+            if ( m_counts[2 * l_middle] <= p_rank )
+                l_block = l_middle;
+            else
+                l_last = l_middle - 1;
+        }
+
+        long l_remain = p_rank - m_counts[2 * l_block];
+        final long l_relative = m_counts[2 * l_block + 1];
+
+        int l_word = 0;
+        while ( l_word < 7 && ( ( l_relative >>> ( 9 * l_word ) ) & RELATIVEMASK ) <= l_remain )
+            l_word++;
+        if ( l_word > 0 )
+            l_remain -= ( l_relative >>> ( 9 * ( l_word - 1 ) ) ) & RELATIVEMASK;
+
+        final int l_index = ( l_block << 3 ) + l_word;
+        long l_bits = m_words[l_index];
+        for ( ; l_remain > 0; l_remain-- )
+            l_bits &= l_bits - 1;
+
+        return ( l_index << 6 ) + Long.numberOfTrailingZeros( l_bits );
+    }
+
+    /**
+     * counts a block, the number of set bits of
+     * the block is stored temporary as absolute count
+     *
+     * @param p_block block index
+     */
+    private void block( final int p_block )
+    {
+        final int l_words = ( m_size + 63 ) >>> 6;
+        final int l_first = p_block << 3;
+
+        long l_count = 0;
+        long l_relative = 0;
+        for ( int i = 0; i < 8; i++ )
+        {
+            if ( i > 0 )
+                l_relative |= l_count << ( 9 * ( i - 1 ) );
+            if ( l_first + i < l_words )
+                l_count += Long.bitCount( l_first + i == l_words - 1 ? m_words[l_first + i] & CKernel.tailmask( m_size ) : m_words[l_first + i] );
+        }
+
+        m_counts[2 * p_block] = l_count;
+        m_counts[2 * p_block + 1] = l_relative;
+    }
+}
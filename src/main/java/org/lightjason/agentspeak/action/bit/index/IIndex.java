@@ -0,0 +1,78 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.index;
+
+import cern.colt.matrix.tbit.BitVector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+
+/**
+ * interface of an index for hamming range queries
+ * over bit vectors
+ */
+public interface IIndex
+{
+
+    /**
+     * number of vectors within the index
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * inserts a vector
+     *
+     * @param p_vector bit vector
+     * @return self reference
+     */
+    @Nonnull
+    IIndex insert( @Nonnull final BitVector p_vector );
+
+    /**
+     * removes a vector
+     *
+     * @param p_vector bit vector
+     * @return true if an equal vector was removed
+     */
+    boolean remove( @Nonnull final BitVector p_vector );
+
+    /**
+     * returns all vectors within a hamming radius,
+     * the distance is calculated in the same way as
+     * the hamming distance action, the vectors are
+     * copies, so changes do not change the index
+     *
+     * @param p_vector query vector
+     * @param p_radius hamming radius (inclusive)
+     * @return list of vector copies
+     */
+    @Nonnull
+    List<BitVector> query( @Nonnull final BitVector p_vector, @Nonnegative final int p_radius );
+
+}
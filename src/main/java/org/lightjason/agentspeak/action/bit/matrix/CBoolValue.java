@@ -23,9 +23,9 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -91,7 +91,7 @@ public final class CBoolValue extends IBaseAction
                        .mapToInt( Number::intValue )
                        .boxed(),
             2
-        ).map( i -> l_arguments.get( 0 ).<BitMatrix>raw().getQuick( i.get( 1 ), i.get( 0 ) ) )
+        ).map( i -> CMatrixAccessor.get( l_arguments.get( 0 ).raw(), i.get( 1 ), i.get( 0 ) ) )
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
 
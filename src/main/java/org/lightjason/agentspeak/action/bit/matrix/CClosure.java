@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * transitive closure of adjacency matrices.
+ * Each argument is a square bit matrix, where the
+ * bit of column j in row i is the edge from node i
+ * to node j, for each matrix a new matrix is returned,
+ * which contains an edge from i to j if j can be reached
+ * from i with at least one edge, the action fails on
+ * non-square matrices
+ *
+ * {@code [A|B] = .math/bit/matrix/closure( Matrix1, Matrix2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Transitive_closure"></a>
+ */
+public final class CClosure extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7402512860935467051L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CClosure.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<BitMatrix> l_arguments = CCommon.flatten( p_argument ).map( ITerm::<BitMatrix>raw ).collect( Collectors.toList() );
+        if ( l_arguments.stream().anyMatch( i -> i.columns() != i.rows() ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "notsquare" ) );
+
+        l_arguments.stream()
+                   .map( i -> CClosure.closure( i, p_parallel ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * calculates the closure of a matrix
+     *
+     * @param p_matrix adjacency matrix
+     * @param p_parallel parallel execution
+     * @return closure matrix
+     */
+    @Nonnull
+    private static BitMatrix closure( @Nonnull final BitMatrix p_matrix, final boolean p_parallel )
+    {
+        final long[] l_rows = CKernel.align( p_matrix.toBitVector().elements(), p_matrix.columns(), p_matrix.rows() );
+        CKernel.closure( l_rows, p_matrix.rows(), p_parallel );
+
+        final BitMatrix l_result = new BitMatrix( p_matrix.columns(), p_matrix.rows() );
+        CKernel.unalign( l_rows, p_matrix.columns(), p_matrix.rows(), l_result.toBitVector().elements() );
+        return l_result;
+    }
+}
@@ -25,17 +25,18 @@ package org.lightjason.agentspeak.action.bit.matrix;
 
 import cern.colt.matrix.tbit.BitMatrix;
 import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
-import java.util.stream.IntStream;
 
 
 /**
  * returns a single column of a bit matrix.
  * The action returns a column of a bit matrix as vector,
  * the first argument is the index of the column, all
- * other a matrix objects, the action never fails
+ * other a matrix objects, the action fails if the
+ * index is not a column of all matrices
  *
  * {@code [V1|V2] = .math/bit/matrix/column(3, Matrix1, [Matrix2]);}
  */
@@ -57,16 +58,30 @@ public final class CColumn extends IBaseRowColumn
         return NAME;
     }
 
+    @Override
+    protected int dimension( @Nonnull final BitMatrix p_matrix )
+    {
+        return p_matrix.columns();
+    }
+
+    @Override
+    protected int dimension( @Nonnull final CMappedBitMatrix p_matrix )
+    {
+        return p_matrix.columns();
+    }
+
     @Nonnull
     @Override
     protected BitVector extract( @Nonnull final BitMatrix p_matrix, final int p_index )
     {
-        final BitVector l_result = new BitVector( p_matrix.rows() );
-        IntStream.range( 0, p_matrix.rows() )
-                 .boxed()
-                 .forEach( i -> l_result.putQuick( i, p_matrix.getQuick( p_index, i ) ) );
+        return IBaseRowColumn.column( p_matrix, p_index );
+    }
 
-        return l_result;
+    @Nonnull
+    @Override
+    protected BitVector extract( @Nonnull final CMappedBitMatrix p_matrix, final int p_index )
+    {
+        return p_matrix.column( p_index );
     }
 
 }
@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * converts a blas matrix to a bit matrix.
+ * The action converts each blas matrix argument to a bit matrix,
+ * an optional number argument is a threshold, a bit is set if
+ * the value is greater than the threshold, without threshold
+ * a bit is set if the value is not zero, dense matrices are packed
+ * by words, on sparse matrices only the non-zeros are read,
+ * the action never fails
+ *
+ * {@code
+ * [A|B] = .math/bit/matrix/fromblas( BlasMatrix1, BlasMatrix2 );
+ * C = .math/bit/matrix/fromblas( BlasMatrix, 0.5 );
+ * }
+ */
+public final class CFromBlas extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4417934786092538617L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CFromBlas.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final DoublePredicate l_predicate = l_arguments.stream()
+                                                       .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                                       .findFirst()
+                                                       .map( i -> i.<Number>raw().doubleValue() )
+                                                       .<DoublePredicate>map( i -> j -> j > i )
+                                                       .orElse( i -> i != 0 );
+
+        l_arguments.stream()
+                   .filter( i -> CCommon.isssignableto( i, DoubleMatrix2D.class ) )
+                   .map( ITerm::<DoubleMatrix2D>raw )
+                   .map( i -> i instanceof DenseDoubleMatrix2D ? CFromBlas.fromdense( i, l_predicate, p_parallel ) : CFromBlas.fromsparse( i, l_predicate ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * converts a dense matrix by packing words
+     *
+     * @param p_matrix dense matrix
+     * @param p_predicate bit predicate
+     * @param p_parallel parallel execution
+     * @return bit matrix
+     */
+    @Nonnull
+    private static BitMatrix fromdense( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoublePredicate p_predicate, final boolean p_parallel )
+    {
+        final int l_columns = p_matrix.columns();
+        final BitMatrix l_result = new BitMatrix( l_columns, p_matrix.rows() );
+        final long[] l_words = CKernel.pack( l_result.size(), i -> p_predicate.test( p_matrix.getQuick( i / l_columns, i % l_columns ) ), p_parallel );
+
+        System.arraycopy( l_words, 0, l_result.toBitVector().elements(), 0, l_words.length );
+        return l_result;
+    }
+
+    /**
+     * converts a sparse matrix, the bits are initialized
+     * by the zero value and only the non-zeros are set
+     *
+     * @param p_matrix sparse matrix
+     * @param p_predicate bit predicate
+     * @return bit matrix
+     */
+    @Nonnull
+    private static BitMatrix fromsparse( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoublePredicate p_predicate )
+    {
+        final BitMatrix l_result = new BitMatrix( p_matrix.columns(), p_matrix.rows() );
+        if ( p_predicate.test( 0 ) )
+            l_result.not();
+
+        p_matrix.forEachNonZero( ( i, j, k ) ->
+        {
+            l_result.putQuick( j, i, p_predicate.test( k ) );
+            return k;
+        } );
+
+        return l_result;
+    }
+}
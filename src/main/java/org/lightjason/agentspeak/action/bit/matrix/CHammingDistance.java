@@ -23,8 +23,9 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -81,15 +82,14 @@ public final class CHammingDistance extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<BitMatrix> l_arguments = CCommon.flatten( p_argument ).map( ITerm::<BitMatrix>raw ).collect( Collectors.toList() );
+        final List<Object> l_arguments = CCommon.flatten( p_argument ).map( ITerm::raw ).collect( Collectors.toList() );
         if ( l_arguments.size() < 2 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 2 ) );
 
         l_arguments.stream()
                    .skip( 1 )
-                   .map( BitMatrix::copy )
-                   .peek( i -> i.xor( l_arguments.get( 0 ) ) )
-                   .mapToDouble( BitMatrix::cardinality )
+                   .peek( i -> CMatrixAccessor.checksize( i, l_arguments.get( 0 ) ) )
+                   .mapToDouble( i -> CVectorAccessor.hammingdistance( CMatrixAccessor.vector( i ), CMatrixAccessor.vector( l_arguments.get( 0 ) ) ) )
                    .boxed()
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
@@ -0,0 +1,67 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * row-major set bit indices of a bit matrix.
+ * The object is created by the indices action and
+ * references the matrix, so the lambda streaming
+ * of the object returns the row-major indices of the set bits
+ * instead of the bit values of the matrix
+ *
+ * @see CIndices
+ * @see CLambdaIndexStreaming
+ */
+public final class CIndexStream
+{
+    /**
+     * dense or mapped matrix
+     */
+    private final Object m_matrix;
+
+    /**
+     * ctor
+     *
+     * @param p_matrix dense or mapped matrix
+     */
+    public CIndexStream( @Nonnull final Object p_matrix )
+    {
+        m_matrix = p_matrix;
+    }
+
+    /**
+     * returns the matrix
+     *
+     * @return dense or mapped matrix
+     */
+    @Nonnull
+    public Object matrix()
+    {
+        return m_matrix;
+    }
+
+}
@@ -24,19 +24,26 @@
 package org.lightjason.agentspeak.action.bit.matrix;
 
 import cern.colt.matrix.tbit.BitMatrix;
-import cern.colt.matrix.tbit.BitVector;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
 
 import javax.annotation.Nonnull;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
- * streaming a bit matrix
+ * streaming a bit matrix.
+ * The matrix words are streamed directly by a primitive
+ * spliterator, each bit is returned as 0 / 1 in row-major order,
+ * a mapped matrix is streamed in word blocks
+ *
+ * @see CLambdaIndexStreaming
+ * @see CLambdaCellStreaming
  */
-public final class CLambdaStreaming extends IBaseLambdaStreaming<BitMatrix>
+public final class CLambdaStreaming extends IBaseLambdaStreaming<Object>
 {
     /**
      * serial id
@@ -44,18 +51,15 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<BitMatrix>
     private static final long serialVersionUID = -7869879782838191012L;
 
     @Override
-    public Stream<?> apply( @Nonnull final BitMatrix p_matrix )
+    public Stream<?> apply( @Nonnull final Object p_matrix )
     {
-        final BitVector l_vector = p_matrix.toBitVector();
-        return IntStream.range( 0, l_vector.size() )
-                        .boxed()
-                        .map( i -> l_vector.getQuick( i ) ? 1 : 0 );
+        return CVectorAccessor.stream( CMatrixAccessor.vector( p_matrix ), false );
     }
 
     @NonNull
     @Override
     public Stream<Class<?>> assignable()
     {
-        return Stream.of( BitMatrix.class );
+        return Stream.of( BitMatrix.class, CMappedBitMatrix.class );
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.storage.CBinary;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * loads bit matrices from a file.
+ * The argument is the file name, the action returns all
+ * bit matrices of the file, the matrices are read block-wise
+ * and can be compressed, the action fails on file errors
+ * or on a wrong format
+ *
+ * {@code [A|B] = .math/bit/matrix/load( "state.bit" );}
+ */
+public final class CLoad extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4877347764745619076L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLoad.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final Path l_path = Paths.get( l_arguments.get( 0 ).<String>raw() );
+
+        try
+        (
+            final FileChannel l_channel = FileChannel.open( l_path, StandardOpenOption.READ )
+        )
+        {
+            while ( l_channel.position() < l_channel.size() )
+                p_return.add( CRawTerm.of( CBinary.matrix( l_channel ) ) );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionIllegalStateException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "ioerror", l_path, l_exception.getMessage() )
+            );
+        }
+
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * maps a bit matrix on a local file.
+ * The first argument is the file name, the optional second
+ * and third arguments are the number of columns and rows, if
+ * the dimension is set the file will be created or must store
+ * a matrix with the same dimension, otherwise the file must
+ * exist, the matrix is not stored within the heap and can be
+ * used with the and, or, xor, nand, not, hammingdistance, set,
+ * boolvalue, toblas, row, column, truecount, indices and cells
+ * actions and the lambda streaming, all changes are written
+ * into the file, the action fails on file errors
+ *
+ * {@code M = .math/bit/matrix/map( "occupancy.bit", 100000, 100000 );}
+ */
+public final class CMap extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8108498941006505366L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMap.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final Path l_path = Paths.get( l_arguments.get( 0 ).<String>raw() );
+
+        try
+        {
+            p_return.add(
+                CRawTerm.of(
+                    l_arguments.size() > 2
+                    ? CMappedBitMatrix.open( l_path, l_arguments.get( 1 ).<Number>raw().intValue(), l_arguments.get( 2 ).<Number>raw().intValue() )
+                    : CMappedBitMatrix.open( l_path )
+                )
+            );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionIllegalStateException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "ioerror", l_path, l_exception.getMessage() )
+            );
+        }
+
+        return Stream.empty();
+    }
+}
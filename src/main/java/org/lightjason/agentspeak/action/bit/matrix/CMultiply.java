@@ -0,0 +1,147 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.ESemiring;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * multiplies bit matrices.
+ * The action calculates the product of all matrix arguments
+ * from left to right, the optional first argument is the
+ * semiring, "boolean" (default) uses the disjunction as
+ * addition, "gf2" the exclusive disjunction, the action
+ * fails on an unknown semiring, on less than two matrices or
+ * if the number of columns of a matrix is not equal to the
+ * number of rows of the next
+ *
+ * {@code
+ * A = .math/bit/matrix/multiply( Matrix1, Matrix2, Matrix3 );
+ * B = .math/bit/matrix/multiply( "gf2", Matrix1, Matrix2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Logical_matrix"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/GF(2)"></a>
+ */
+public final class CMultiply extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2924606125563893215L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMultiply.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_named = CCommon.isssignableto( l_arguments.get( 0 ), String.class );
+        if ( l_named && !ESemiring.exists( l_arguments.get( 0 ).raw() ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownsemiring", l_arguments.get( 0 ).<String>raw() )
+            );
+
+        final ESemiring l_semiring = l_named ? ESemiring.of( l_arguments.get( 0 ).raw() ) : ESemiring.BOOLEAN;
+
+        final List<BitMatrix> l_matrices = l_arguments.stream()
+                                                      .filter( i -> CCommon.isssignableto( i, BitMatrix.class ) )
+                                                      .map( ITerm::<BitMatrix>raw )
+                                                      .collect( Collectors.toList() );
+        if ( l_matrices.size() < 2 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 2 ) );
+
+        BitMatrix l_result = l_matrices.get( 0 );
+        for ( int i = 1; i < l_matrices.size(); i++ )
+        {
+            if ( l_result.columns() != l_matrices.get( i ).rows() )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongdimension", l_result.columns(), l_matrices.get( i ).rows() )
+                );
+
+            l_result = CMultiply.multiply( l_result, l_matrices.get( i ), l_semiring, p_parallel );
+        }
+
+        p_return.add( CRawTerm.of( l_result ) );
+        return Stream.empty();
+    }
+
+    /**
+     * multiplies two matrices
+     *
+     * @param p_left left matrix
+     * @param p_right right matrix
+     * @param p_semiring semiring
+     * @param p_parallel parallel execution
+     * @return product matrix
+     */
+    @Nonnull
+    private static BitMatrix multiply( @Nonnull final BitMatrix p_left, @Nonnull final BitMatrix p_right, @Nonnull final ESemiring p_semiring,
+                                       final boolean p_parallel )
+    {
+        final BitMatrix l_result = new BitMatrix( p_right.columns(), p_left.rows() );
+        CKernel.multiply(
+            p_left.toBitVector().elements(), p_left.columns(), p_left.rows(),
+            p_right.toBitVector().elements(), p_right.columns(),
+            l_result.toBitVector().elements(), p_semiring, p_parallel
+        );
+        return l_result;
+    }
+}
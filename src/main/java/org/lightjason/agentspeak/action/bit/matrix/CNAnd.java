@@ -23,7 +23,6 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
@@ -57,9 +56,10 @@ public final class CNAnd extends IBaseOperator
     }
 
     @Override
-    protected void apply( @Nonnull final BitMatrix p_target, @Nonnull final BitMatrix p_source )
+    protected void apply( @Nonnull final long[] p_target, @Nonnull final long[] p_source, final int p_offset, final int p_length )
     {
-        p_target.andNot( p_source );
+        for ( int i = 0; i < p_length; i++ )
+            p_target[p_offset + i] &= ~p_source[i];
     }
 
 }
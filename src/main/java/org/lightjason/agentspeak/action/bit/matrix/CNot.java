@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
@@ -77,8 +77,8 @@ public final class CNot extends IBaseAction
     {
         CCommon.flatten( p_argument )
                .parallel()
-               .map( ITerm::<BitMatrix>raw )
-               .forEach( BitMatrix::not );
+               .map( ITerm::raw )
+               .forEach( CMatrixAccessor::not );
 
         return Stream.empty();
     }
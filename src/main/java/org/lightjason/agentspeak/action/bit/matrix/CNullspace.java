@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * returns a nullspace basis of a bit matrix over gf(2).
+ * For each input matrix a matrix is returned, which rows
+ * are the basis vectors x with Ax = 0, one for each free
+ * column of the reduced row echelon form, so the number
+ * of rows is the number of columns minus the rank,
+ * the action never fails
+ *
+ * {@code [N1|N2] = .math/bit/matrix/nullspace( Matrix1, Matrix2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kernel_(linear_algebra)"></a>
+ */
+public final class CNullspace extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5581342687450271109L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CNullspace.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .map( ITerm::<BitMatrix>raw )
+               .map( i -> CNullspace.nullspace( i, p_parallel ) )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * calculates the nullspace basis
+     *
+     * @param p_matrix matrix
+     * @param p_parallel parallel execution
+     * @return matrix with the basis vectors as rows
+     */
+    @Nonnull
+    private static BitMatrix nullspace( @Nonnull final BitMatrix p_matrix, final boolean p_parallel )
+    {
+        final int l_columns = p_matrix.columns();
+        final int l_words = ( l_columns + 63 ) >>> 6;
+        final long[] l_rows = CKernel.align( p_matrix.toBitVector().elements(), l_columns, p_matrix.rows() );
+        final int[] l_pivots = CKernel.eliminate( l_rows, l_words, p_matrix.rows(), l_columns, p_parallel );
+
+        final BitMatrix l_result = new BitMatrix( l_columns, l_columns - l_pivots.length );
+
+        int l_basis = 0;
+        int l_pivot = 0;
+        for ( int c = 0; c < l_columns; c++ )
+        {
+            if ( l_pivot < l_pivots.length && l_pivots[l_pivot] == c )
+            {
+                l_pivot++;
+                continue;
+            }
+
+            l_result.putQuick( c, l_basis, true );
+            for ( int i = 0; i < l_pivots.length; i++ )
+                if ( ( l_rows[i * l_words + ( c >>> 6 )] & ( 1L << c ) ) != 0 )
+                    l_result.putQuick( l_pivots[i], l_basis, true );
+
+            l_basis++;
+        }
+
+        return l_result;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * reachable nodes of an adjacency matrix.
+ * The first argument is a square bit matrix, where
+ * the bit of column j in row i is the edge from node i
+ * to node j, the second argument is a bit vector with
+ * the source nodes and the optional third argument is the
+ * maximum number of steps, the action returns a bit vector
+ * with all nodes, which can be reached from the sources
+ * (sources included) by a breadth-first search, the action
+ * fails on a non-square matrix or if the vector size
+ * is not equal to the number of nodes
+ *
+ * {@code
+ * R = .math/bit/matrix/reachable( Adjacency, Sources );
+ * N = .math/bit/matrix/reachable( Adjacency, Sources, 2 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Breadth-first_search"></a>
+ */
+public final class CReachable extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1608432197634150398L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CReachable.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final BitMatrix l_matrix = l_arguments.get( 0 ).raw();
+        final BitVector l_sources = CVectorAccessor.dense( l_arguments.get( 1 ).raw() );
+        final int l_depth = l_arguments.size() > 2 ? l_arguments.get( 2 ).<Number>raw().intValue() : Integer.MAX_VALUE;
+
+        if ( l_matrix.columns() != l_matrix.rows() )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "notsquare" ) );
+
+        if ( l_sources.size() != l_matrix.rows() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "differentsize", l_sources.size(), l_matrix.rows() )
+            );
+
+        final long[] l_rows = CKernel.align( l_matrix.toBitVector().elements(), l_matrix.columns(), l_matrix.rows() );
+        p_return.add( CRawTerm.of(
+            new BitVector( CKernel.reachable( l_rows, l_matrix.rows(), l_sources.elements(), Math.max( 0, l_depth ), p_parallel ), l_matrix.rows() )
+        ) );
+
+        return Stream.empty();
+    }
+}
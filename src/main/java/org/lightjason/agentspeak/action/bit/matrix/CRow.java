@@ -25,17 +25,18 @@ package org.lightjason.agentspeak.action.bit.matrix;
 
 import cern.colt.matrix.tbit.BitMatrix;
 import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
-import java.util.stream.IntStream;
 
 
 /**
  * returns a single row of a bit matrix.
  * The action returns a row of a matrix as vector,
  * the first argument is the index of the row, all
- * other arguments are matrix object
+ * other arguments are matrix object, the action fails
+ * if the index is not a row of all matrices
  *
  * {@code [R1|R2] = .math/bit/matrix/row(2, Matrix1, [Matrix2]);}
  */
@@ -57,16 +58,30 @@ public final class CRow extends IBaseRowColumn
         return NAME;
     }
 
+    @Override
+    protected int dimension( @Nonnull final BitMatrix p_matrix )
+    {
+        return p_matrix.rows();
+    }
+
+    @Override
+    protected int dimension( @Nonnull final CMappedBitMatrix p_matrix )
+    {
+        return p_matrix.rows();
+    }
+
     @Nonnull
     @Override
     protected BitVector extract( @Nonnull final BitMatrix p_matrix, final int p_index )
     {
-        final BitVector l_result = new BitVector( p_matrix.columns() );
-        IntStream.range( 0, p_matrix.columns() )
-                 .boxed()
-                 .forEach( i -> l_result.putQuick( i, p_matrix.getQuick( i, p_index ) ) );
+        return IBaseRowColumn.row( p_matrix, p_index );
+    }
 
-        return l_result;
+    @Nonnull
+    @Override
+    protected BitVector extract( @Nonnull final CMappedBitMatrix p_matrix, final int p_index )
+    {
+        return p_matrix.row( p_index );
     }
 
 }
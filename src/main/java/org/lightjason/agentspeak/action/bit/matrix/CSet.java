@@ -23,9 +23,9 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
@@ -89,7 +89,7 @@ public final class CSet extends IBaseAction
                    .skip( 2 ),
                    2,
                    2
-        ).forEach( i -> l_arguments.get( 0 ).<BitMatrix>raw().put( i.get( 0 ).<Number>raw().intValue(), i.get( 1 ).<Number>raw().intValue(), l_value ) );
+        ).forEach( i -> CMatrixAccessor.put( l_arguments.get( 0 ).raw(), i.get( 0 ).<Number>raw().intValue(), i.get( 1 ).<Number>raw().intValue(), l_value ) );
 
         return Stream.empty();
     }
@@ -0,0 +1,145 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * solves a linear system over gf(2).
+ * The first argument is the matrix A, all other arguments
+ * are bit vectors b, for each b a solution x of Ax = b is
+ * returned, free variables are set to false, the action fails
+ * if the size of b is not equal to the number of rows or the
+ * system has no solution
+ *
+ * {@code [X1|X2] = .math/bit/matrix/solve( Matrix, Vector1, Vector2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Gaussian_elimination"></a>
+ */
+public final class CSolve extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4632707921391565482L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSolve.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final BitMatrix l_matrix = l_arguments.get( 0 ).raw();
+
+        l_arguments.stream()
+                   .skip( 1 )
+                   .map( ITerm::raw ).map( CVectorAccessor::dense )
+                   .map( i -> this.solve( p_context, l_matrix, i, p_parallel ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * solves the system on the augmented matrix
+     *
+     * @param p_context execution context
+     * @param p_matrix matrix
+     * @param p_vector right-hand side
+     * @param p_parallel parallel execution
+     * @return solution
+     */
+    @Nonnull
+    private BitVector solve( @Nonnull final IContext p_context, @Nonnull final BitMatrix p_matrix, @Nonnull final BitVector p_vector, final boolean p_parallel )
+    {
+        if ( p_vector.size() != p_matrix.rows() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "differentsize", p_vector.size(), p_matrix.rows() )
+            );
+
+        final int l_columns = p_matrix.columns();
+        final int l_words = ( l_columns + 64 ) >>> 6;
+        final long[] l_elements = p_matrix.toBitVector().elements();
+        final long[] l_rows = new long[p_matrix.rows() * l_words];
+
+        for ( int r = 0; r < p_matrix.rows(); r++ )
+        {
+            CKernel.copy( l_elements, (long) r * l_columns, l_rows, r * l_words, l_columns );
+            if ( p_vector.getQuick( r ) )
+                l_rows[r * l_words + ( l_columns >>> 6 )] |= 1L << l_columns;
+        }
+
+        final int[] l_pivots = CKernel.eliminate( l_rows, l_words, p_matrix.rows(), l_columns, p_parallel );
+
+        for ( int r = l_pivots.length; r < p_matrix.rows(); r++ )
+            if ( ( l_rows[r * l_words + ( l_columns >>> 6 )] & ( 1L << l_columns ) ) != 0 )
+                throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "nosolution" ) );
+
+        final BitVector l_result = new BitVector( l_columns );
+        for ( int i = 0; i < l_pivots.length; i++ )
+            if ( ( l_rows[i * l_words + ( l_columns >>> 6 )] & ( 1L << l_columns ) ) != 0 )
+                l_result.putQuick( l_pivots[i], true );
+
+        return l_result;
+    }
+}
@@ -24,10 +24,11 @@
 package org.lightjason.agentspeak.action.bit.matrix;
 
 import cern.colt.matrix.tbit.BitMatrix;
-import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
+import org.lightjason.agentspeak.action.bit.CKernel;
 import org.lightjason.agentspeak.action.bit.EBlasType;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -38,9 +39,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -87,17 +88,21 @@ public final class CToBlas extends IBaseAction
         if ( EBlasType.DENSE == l_arguments.parallelStream().filter( i -> CCommon.isssignableto( i, String.class ) )
                                             .findFirst().map( i -> EBlasType.of( i.<String>raw() ) ).orElse( EBlasType.SPARSE ) )
             l_arguments.stream()
-                       .filter( i -> CCommon.isssignableto( i, BitMatrix.class ) )
-                       .map( ITerm::<BitMatrix>raw )
-                       .map( i -> CToBlas.tomatrix( i, new DenseDoubleMatrix2D( i.rows(), i.columns() ) ) )
+                       .map( ITerm::raw )
+                       .filter( CMatrixAccessor::ismatrix )
+                       .map( CMatrixAccessor::dense )
+                       .map( i -> new DenseDoubleMatrix2D(
+                           i.rows(), i.columns(), CKernel.todouble( i.toBitVector().elements(), i.size(), p_parallel ), 0, 0, i.columns(), 1, false
+                       ) )
                        .map( CRawTerm::of )
                        .forEach( p_return::add );
 
         else
             l_arguments.stream()
-                       .filter( i -> CCommon.isssignableto( i, BitMatrix.class ) )
-                       .map( ITerm::<BitMatrix>raw )
-                       .map( i -> CToBlas.tomatrix( i, new SparseDoubleMatrix2D( i.rows(), i.columns() ) ) )
+                       .map( ITerm::raw )
+                       .filter( CMatrixAccessor::ismatrix )
+                       .map( CMatrixAccessor::dense )
+                       .map( CToBlas::tosparse )
                        .map( CRawTerm::of )
                        .forEach( p_return::add );
 
@@ -106,18 +111,21 @@ public final class CToBlas extends IBaseAction
 
 
     /**
-     * converts the bit matrix to the blas matrix
+     * converts the bit matrix into a sparse matrix,
+     * only the set bits are stored
      *
-     * @param p_source bit matrix
-     * @param p_target blas matrix
-     * @return blas matrix
+     * @param p_matrix bit matrix
+     * @return sparse matrix
      */
     @Nonnull
-    private static DoubleMatrix2D tomatrix( @Nonnull final BitMatrix p_source, @Nonnull final DoubleMatrix2D p_target )
+    private static SparseDoubleMatrix2D tosparse( @Nonnull final BitMatrix p_matrix )
     {
-        IntStream.range( 0, p_source.rows() )
-                 .forEach( r -> IntStream.range( 0, p_source.columns() ).forEach( c -> p_target.setQuick( r, c, p_source.getQuick( r, c ) ? 1 : 0 ) ) );
-
-        return p_target;
+        final int[] l_indices = CKernel.indices( p_matrix.toBitVector().elements(), p_matrix.size() );
+        return new SparseDoubleMatrix2D(
+            p_matrix.rows(), p_matrix.columns(),
+            Arrays.stream( l_indices ).map( i -> i / p_matrix.columns() ).toArray(),
+            Arrays.stream( l_indices ).map( i -> i % p_matrix.columns() ).toArray(),
+            1
+        );
     }
 }
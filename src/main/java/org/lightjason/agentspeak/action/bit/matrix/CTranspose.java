@@ -0,0 +1,104 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.matrix;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * transposes a bit matrix.
+ * All input matrix objects will be transposed
+ * and the transposed matrices are returned,
+ * the input matrices are not changed
+ *
+ * {@code [A|B] = .math/bit/matrix/transpose( Matrix1, Matrix2 );}
+ */
+public final class CTranspose extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5311390870167541293L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CTranspose.class, "math", "bit", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .map( ITerm::<BitMatrix>raw )
+               .map( i -> CTranspose.transpose( i, p_parallel ) )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * transposes a matrix
+     *
+     * @param p_matrix matrix
+     * @param p_parallel parallel execution
+     * @return transposed matrix
+     */
+    @Nonnull
+    private static BitMatrix transpose( @Nonnull final BitMatrix p_matrix, final boolean p_parallel )
+    {
+        final BitMatrix l_result = new BitMatrix( p_matrix.rows(), p_matrix.columns() );
+        CKernel.transpose( p_matrix.toBitVector().elements(), p_matrix.columns(), p_matrix.rows(), l_result.toBitVector().elements(), p_parallel );
+        return l_result;
+    }
+}
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.bit.matrix;
 
 import cern.colt.matrix.tbit.BitMatrix;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -41,7 +42,8 @@ import java.util.stream.Stream;
 /**
  * returns the number of true values.
  * The actions returnf for each input matrix the
- * number of true values
+ * number of true values, memory-mapped bit matrices
+ * are also supported
  *
  * {@code [A|B] = .math/bit/matrix/truecount( BitMatrix1, BitMatrix2 );}
  */
@@ -77,8 +79,8 @@ public final class CTrueCount extends IBaseAction
     )
     {
         CCommon.flatten( p_argument )
-               .map( ITerm::<BitMatrix>raw )
-               .mapToDouble( BitMatrix::cardinality )
+               .map( ITerm::raw )
+               .mapToDouble( i -> i instanceof BitMatrix ? ( (BitMatrix) i ).cardinality() : ( (CMappedBitMatrix) i ).cardinality() )
                .boxed()
                .map( CRawTerm::of )
                .forEach( p_return::add );
@@ -23,8 +23,10 @@
 
 package org.lightjason.agentspeak.action.bit.matrix;
 
-import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CMatrixAccessor;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,11 +36,14 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 
 /**
- * defines an abstract operator for bit matrix
+ * defines an abstract operator for bit matrix,
+ * dense and memory-mapped matrices are changed
+ * on the row-major words in blocks
  */
 public abstract class IBaseOperator extends IBaseAction
 {
@@ -46,6 +51,10 @@ public abstract class IBaseOperator extends IBaseAction
      * serial id
      */
     private static final long serialVersionUID = 8050014065736376063L;
+    /**
+     * number of words within a block (8 KiB)
+     */
+    private static final int BLOCKSIZE = 1024;
 
     @Nonnegative
     @Override
@@ -60,24 +69,63 @@ public abstract class IBaseOperator extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<BitMatrix> l_arguments = CCommon.flatten( p_argument )
-                                                   .map( ITerm::<BitMatrix>raw )
-                                                   .collect( Collectors.toList() );
+        final List<Object> l_arguments = CCommon.flatten( p_argument )
+                                                .map( ITerm::raw )
+                                                .collect( Collectors.toList() );
+
+        final Object l_source = CMatrixAccessor.vector( l_arguments.get( 0 ) );
+        final List<Object> l_targets = l_arguments.stream()
+                                                  .skip( 1 )
+                                                  .peek( i -> CMatrixAccessor.checksize( i, l_arguments.get( 0 ) ) )
+                                                  .map( CMatrixAccessor::vector )
+                                                  .collect( Collectors.toList() );
 
-        l_arguments.stream()
-                   .skip( 1 )
-                   .parallel()
-                   .forEach( i -> this.apply( i, l_arguments.get( 0 ) ) );
+        final long l_words = CVectorAccessor.words( l_source );
+        LongStream.range( 0, ( l_words + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                  .parallel()
+                  .forEach( i -> this.block( l_source, l_targets, i * BLOCKSIZE, Math.min( l_words, ( i + 1 ) * BLOCKSIZE ) ) );
 
         return Stream.empty();
     }
 
+    /**
+     * applies one block of source words to all targets,
+     * the block is copied first, so the source can also
+     * be a target
+     *
+     * @param p_source row-major bits of the source matrix
+     * @param p_targets row-major bits of the target matrices
+     * @param p_from first word index (inclusive)
+     * @param p_to last word index (exclusive)
+     */
+    private void block( @Nonnull final Object p_source, @Nonnull final List<Object> p_targets, final long p_from, final long p_to )
+    {
+        final int l_length = (int) ( p_to - p_from );
+        final long[] l_block = new long[l_length];
+        CVectorAccessor.read( p_source, p_from, l_block, l_length );
+
+        for ( final Object l_target : p_targets )
+        {
+            if ( l_target instanceof BitVector )
+            {
+                this.apply( ( (BitVector) l_target ).elements(), l_block, (int) p_from, l_length );
+                continue;
+            }
+
+            final long[] l_words = new long[l_length];
+            CVectorAccessor.read( l_target, p_from, l_words, l_length );
+            this.apply( l_words, l_block, 0, l_length );
+            CVectorAccessor.write( l_target, p_from, l_words, l_length );
+        }
+    }
 
     /**
-     * apply method to apply operation
+     * apply method to apply operation on a word block
      *
-     * @param p_target bit vector which will modifed
-     * @param p_source source of modification
+     * @param p_target row-major words of the bit matrix which will modifed
+     * @param p_source words of the source block, starts at index zero
+     * @param p_offset word index of the block within the target
+     * @param p_length number of words
      */
-    protected abstract void apply( @Nonnull final BitMatrix p_target, @Nonnull final BitMatrix p_source );
+    protected abstract void apply( @Nonnull final long[] p_target, @Nonnull final long[] p_source, final int p_offset, final int p_length );
 }
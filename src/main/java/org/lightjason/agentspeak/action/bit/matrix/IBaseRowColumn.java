@@ -26,6 +26,9 @@ package org.lightjason.agentspeak.action.bit.matrix;
 import cern.colt.matrix.tbit.BitMatrix;
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -35,13 +38,15 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * abstract class for extracting row / columns
- * form a bit matrix
+ * form a bit matrix or memory-mapped bit matrix,
+ * the action fails if the index is outside of any matrix
  */
 public abstract class IBaseRowColumn extends IBaseAction
 {
@@ -64,17 +69,99 @@ public abstract class IBaseRowColumn extends IBaseAction
     )
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final int l_index = l_arguments.get( 0 ).<Number>raw().intValue();
+        final List<Object> l_matrices = l_arguments.stream().skip( 1 ).map( ITerm::raw ).collect( Collectors.toList() );
 
-        l_arguments.stream()
-                   .skip( 1 )
-                   .map( ITerm::<BitMatrix>raw )
-                   .map( i -> this.extract( i, l_arguments.get( 0 ).<Number>raw().intValue() ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final OptionalInt l_dimension = l_matrices.stream()
+                                                  .mapToInt( i -> i instanceof BitMatrix ? this.dimension( (BitMatrix) i ) : this.dimension( (CMappedBitMatrix) i ) )
+                                                  .filter( i -> l_index < 0 || l_index >= i )
+                                                  .findFirst();
+        if ( l_dimension.isPresent() )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "indexoutofrange", l_index, l_dimension.getAsInt() )
+            );
+
+        l_matrices.stream()
+                  .map( i -> i instanceof BitMatrix ? this.extract( (BitMatrix) i, l_index ) : this.extract( (CMappedBitMatrix) i, l_index ) )
+                  .map( CRawTerm::of )
+                  .forEach( p_return::add );
 
         return Stream.empty();
     }
 
+    /**
+     * extracts a row with a shifted word copy
+     *
+     * @param p_matrix matrix
+     * @param p_row row index
+     * @return row vector
+     * @throws IndexOutOfBoundsException on wrong row index
+     */
+    @Nonnull
+    protected static BitVector row( @Nonnull final BitMatrix p_matrix, final int p_row )
+    {
+        if ( p_row < 0 || p_row >= p_matrix.rows() )
+            throw new IndexOutOfBoundsException( "row:" + p_row + ", rows:" + p_matrix.rows() );
+
+        final BitVector l_result = new BitVector( p_matrix.columns() );
+        CKernel.copy( p_matrix.toBitVector().elements(), (long) p_row * p_matrix.columns(), l_result.elements(), p_matrix.columns() );
+        return l_result;
+    }
+
+    /**
+     * extracts a column, the rows are read in blocks of 64,
+     * each block contains the aligned 64 columns around the
+     * index and is transposed, so the column becomes a word
+     *
+     * @param p_matrix matrix
+     * @param p_column column index
+     * @return column vector
+     * @throws IndexOutOfBoundsException on wrong column index
+     */
+    @Nonnull
+    protected static BitVector column( @Nonnull final BitMatrix p_matrix, final int p_column )
+    {
+        if ( p_column < 0 || p_column >= p_matrix.columns() )
+            throw new IndexOutOfBoundsException( "column:" + p_column + ", columns:" + p_matrix.columns() );
+
+        final long[] l_words = p_matrix.toBitVector().elements();
+        final BitVector l_result = new BitVector( p_matrix.rows() );
+        final long[] l_target = l_result.elements();
+        final long[] l_block = new long[64];
+        final int l_offset = p_column & ~63;
+        final int l_length = Math.min( 64, p_matrix.columns() - l_offset );
+
+        for ( int b = 0; b < p_matrix.rows(); b += 64 )
+        {
+            final int l_rows = Math.min( 64, p_matrix.rows() - b );
+            for ( int r = 0; r < 64; r++ )
+                l_block[r] = r < l_rows ? CKernel.bits( l_words, (long) ( b + r ) * p_matrix.columns() + l_offset, l_length ) : 0;
+
+            CKernel.transpose( l_block, 0 );
+            l_target[b >>> 6] = l_block[p_column & 63];
+        }
+
+        return l_result;
+    }
+
+    /**
+     * number of extractable vectors
+     *
+     * @param p_matrix matrix object
+     * @return number of rows or columns
+     */
+    @Nonnegative
+    protected abstract int dimension( @Nonnull final BitMatrix p_matrix );
+
+    /**
+     * number of extractable vectors of a memory-mapped matrix
+     *
+     * @param p_matrix mapped matrix object
+     * @return number of rows or columns
+     */
+    @Nonnegative
+    protected abstract int dimension( @Nonnull final CMappedBitMatrix p_matrix );
+
     /**
      * extracts the data into a bit vector
      *
@@ -84,4 +171,14 @@ public abstract class IBaseRowColumn extends IBaseAction
      */
     @Nonnull
     protected abstract BitVector extract( @Nonnull final BitMatrix p_matrix, final int p_index );
+
+    /**
+     * extracts the data of a memory-mapped matrix into a bit vector
+     *
+     * @param p_matrix mapped matrix object
+     * @param p_index index value
+     * @return bit vector
+     */
+    @Nonnull
+    protected abstract BitVector extract( @Nonnull final CMappedBitMatrix p_matrix, final int p_index );
 }
@@ -0,0 +1,351 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.storage;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+
+/**
+ * binary format of bit vectors and matrices.
+ * The format contains the header and the raw 64-bit words
+ * in little-endian byte order, uncompressed data can be
+ * mapped, the words are streamed in blocks of 1024 words
+ * through the channel, so the time depends on the number
+ * of words only, on compression each block is compressed
+ * with deflate and stored with the compressed size, so
+ * a reader never reads behind the data
+ */
+public final class CBinary
+{
+    /**
+     * flag of uncompressed words
+     */
+    public static final byte UNCOMPRESSED = 0;
+    /**
+     * flag of deflate compressed words
+     */
+    public static final byte DEFLATE = 1;
+    /**
+     * number of words within a block
+     */
+    private static final int BLOCKSIZE = 1024;
+    /**
+     * number of bytes of a compressed block with its size,
+     * deflate enlarges incompressible data by a few bytes only
+     */
+    private static final int DEFLATEBYTES = 4 + 8 * BLOCKSIZE + 64;
+
+    /**
+     * ctor
+     */
+    private CBinary()
+    {
+    }
+
+    /**
+     * writes a bit vector
+     *
+     * @param p_channel channel
+     * @param p_vector bit vector
+     * @param p_compress compress the words
+     * @throws IOException on write error
+     */
+    public static void write( @Nonnull final WritableByteChannel p_channel, @Nonnull final BitVector p_vector, final boolean p_compress ) throws IOException
+    {
+        CBinary.write( p_channel, new CHeader( CHeader.VECTOR, p_compress ? DEFLATE : UNCOMPRESSED, p_vector.size(), 1 ), p_vector.elements() );
+    }
+
+    /**
+     * writes a bit matrix
+     *
+     * @param p_channel channel
+     * @param p_matrix bit matrix
+     * @param p_compress compress the words
+     * @throws IOException on write error
+     */
+    public static void write( @Nonnull final WritableByteChannel p_channel, @Nonnull final BitMatrix p_matrix, final boolean p_compress ) throws IOException
+    {
+        CBinary.write(
+            p_channel,
+            new CHeader( CHeader.MATRIX, p_compress ? DEFLATE : UNCOMPRESSED, p_matrix.columns(), p_matrix.rows() ),
+            p_matrix.toBitVector().elements()
+        );
+    }
+
+    /**
+     * reads a bit vector
+     *
+     * @param p_channel channel
+     * @return bit vector
+     * @throws IOException on read error or if the channel does not contain a vector
+     */
+    @Nonnull
+    public static BitVector vector( @Nonnull final ReadableByteChannel p_channel ) throws IOException
+    {
+        final CHeader l_header = CHeader.read( p_channel );
+        if ( l_header.type() != CHeader.VECTOR )
+            throw new IOException( "data does not contain a vector" );
+
+        final BitVector l_vector = new BitVector( CBinary.dimension( l_header.columns() ) );
+        CBinary.read( p_channel, l_header, l_vector.elements() );
+        return l_vector;
+    }
+
+    /**
+     * reads a bit matrix
+     *
+     * @param p_channel channel
+     * @return bit matrix
+     * @throws IOException on read error or if the channel does not contain a matrix
+     */
+    @Nonnull
+    public static BitMatrix matrix( @Nonnull final ReadableByteChannel p_channel ) throws IOException
+    {
+        final CHeader l_header = CHeader.read( p_channel );
+        if ( l_header.type() != CHeader.MATRIX )
+            throw new IOException( "data does not contain a matrix" );
+
+        CBinary.dimension( l_header.size() );
+        final BitMatrix l_matrix = new BitMatrix( CBinary.dimension( l_header.columns() ), CBinary.dimension( l_header.rows() ) );
+        CBinary.read( p_channel, l_header, l_matrix.toBitVector().elements() );
+        return l_matrix;
+    }
+
+    /**
+     * writes header and words block-wise, the bits
+     * behind the size are cleared
+     *
+     * @param p_channel channel
+     * @param p_header header
+     * @param p_words words
+     * @throws IOException on write error
+     */
+    private static void write( @Nonnull final WritableByteChannel p_channel, @Nonnull final CHeader p_header, @Nonnull final long[] p_words )
+        throws IOException
+    {
+        p_header.write( p_channel );
+
+        final int l_words = (int) p_header.words();
+        final ByteBuffer l_buffer = ByteBuffer.allocate( 8 * BLOCKSIZE ).order( CHeader.ORDER );
+        final Deflater l_deflater = new Deflater( Deflater.BEST_SPEED );
+        ByteBuffer l_output = ByteBuffer.allocate( DEFLATEBYTES ).order( CHeader.ORDER );
+
+        try
+        {
+            for ( int i = 0; i < l_words; i += BLOCKSIZE )
+            {
+                final int l_length = Math.min( BLOCKSIZE, l_words - i );
+                l_buffer.clear();
+                l_buffer.asLongBuffer().put( p_words, i, l_length );
+                if ( i + l_length == l_words )
+                    l_buffer.putLong( 8 * ( l_length - 1 ), p_words[l_words - 1] & CKernel.tailmask( (int) ( p_header.size() & 63 ) ) );
+                l_buffer.limit( 8 * l_length );
+
+                if ( p_header.flag() == DEFLATE )
+                {
+                    l_output = CBinary.deflate( l_deflater, l_buffer, l_output );
+                    CBinary.write( p_channel, l_output );
+                }
+                else
+                    CBinary.write( p_channel, l_buffer );
+            }
+        }
+        finally
+        {
+            l_deflater.end();
+        }
+    }
+
+    /**
+     * reads the words block-wise
+     *
+     * @param p_channel channel
+     * @param p_header header
+     * @param p_words target words
+     * @throws IOException on read error or on a wrong size of a compressed block
+     */
+    private static void read( @Nonnull final ReadableByteChannel p_channel, @Nonnull final CHeader p_header, @Nonnull final long[] p_words )
+        throws IOException
+    {
+        if ( p_header.flag() != DEFLATE && p_header.flag() != UNCOMPRESSED )
+            throw new IOException( "unknown compression: " + p_header.flag() );
+
+        final int l_words = (int) p_header.words();
+        final ByteBuffer l_buffer = ByteBuffer.allocate( 8 * BLOCKSIZE ).order( CHeader.ORDER );
+        final ByteBuffer l_size = ByteBuffer.allocate( 4 ).order( CHeader.ORDER );
+        final Inflater l_inflater = new Inflater();
+
+        try
+        {
+            for ( int i = 0; i < l_words; i += BLOCKSIZE )
+            {
+                final int l_length = Math.min( BLOCKSIZE, l_words - i );
+                l_buffer.clear();
+                l_buffer.limit( 8 * l_length );
+
+                if ( p_header.flag() == DEFLATE )
+                {
+                    l_size.clear();
+                    CBinary.read( p_channel, l_size );
+                    if ( l_size.getInt( 0 ) < 0 || l_size.getInt( 0 ) > DEFLATEBYTES )
+                        throw new IOException( "wrong size of a compressed block: " + l_size.getInt( 0 ) );
+
+                    final ByteBuffer l_input = ByteBuffer.allocate( l_size.getInt( 0 ) );
+                    CBinary.read( p_channel, l_input );
+                    CBinary.inflate( l_inflater, l_input, l_buffer );
+                }
+                else
+                    CBinary.read( p_channel, l_buffer );
+
+                l_buffer.position( 0 );
+                l_buffer.asLongBuffer().get( p_words, i, l_length );
+            }
+        }
+        finally
+        {
+            l_inflater.end();
+        }
+    }
+
+    /**
+     * compresses a block, the result contains
+     * the compressed size and the compressed bytes
+     *
+     * @param p_deflater deflater
+     * @param p_input uncompressed block
+     * @param p_output output buffer
+     * @return output buffer, which can be enlarged
+     */
+    @Nonnull
+    private static ByteBuffer deflate( @Nonnull final Deflater p_deflater, @Nonnull final ByteBuffer p_input, @Nonnull final ByteBuffer p_output )
+    {
+        p_deflater.reset();
+        p_deflater.setInput( p_input.array(), 0, p_input.limit() );
+        p_deflater.finish();
+
+        ByteBuffer l_output = p_output;
+        int l_size = 4;
+        while ( !p_deflater.finished() )
+        {
+            if ( l_size == l_output.capacity() )
+                l_output = ByteBuffer.wrap( Arrays.copyOf( l_output.array(), 2 * l_output.capacity() ) ).order( CHeader.ORDER );
+            l_size += p_deflater.deflate( l_output.array(), l_size, l_output.capacity() - l_size );
+        }
+
+        l_output.clear();
+        l_output.putInt( 0, l_size - 4 );
+        l_output.limit( l_size );
+        return l_output;
+    }
+
+    /**
+     * decompresses a block
+     *
+     * @param p_inflater inflater
+     * @param p_input compressed bytes
+     * @param p_output uncompressed block, the limit defines the size
+     * @throws IOException on wrong data
+     */
+    private static void inflate( @Nonnull final Inflater p_inflater, @Nonnull final ByteBuffer p_input, @Nonnull final ByteBuffer p_output )
+        throws IOException
+    {
+        p_inflater.reset();
+        p_inflater.setInput( p_input.array() );
+
+        try
+        {
+            int l_size = 0;
+            while ( l_size < p_output.limit() && !p_inflater.finished() )
+            {
+                final int l_length = p_inflater.inflate( p_output.array(), l_size, p_output.limit() - l_size );
+                if ( l_length == 0 && ( p_inflater.needsInput() || p_inflater.needsDictionary() ) )
+                    break;
+                l_size += l_length;
+            }
+
+            if ( l_size != p_output.limit() || !p_inflater.finished() )
+                throw new IOException( "compressed block is corrupted" );
+        }
+        catch ( final DataFormatException l_exception )
+        {
+            throw new IOException( l_exception );
+        }
+    }
+
+    /**
+     * writes a buffer completely
+     *
+     * @param p_channel channel
+     * @param p_buffer buffer
+     * @throws IOException on write error
+     */
+    private static void write( @Nonnull final WritableByteChannel p_channel, @Nonnull final ByteBuffer p_buffer ) throws IOException
+    {
+        while ( p_buffer.hasRemaining() )
+            p_channel.write( p_buffer );
+    }
+
+    /**
+     * fills a buffer completely
+     *
+     * @param p_channel channel
+     * @param p_buffer buffer
+     * @throws IOException on read error or end of stream
+     */
+    private static void read( @Nonnull final ReadableByteChannel p_channel, @Nonnull final ByteBuffer p_buffer ) throws IOException
+    {
+        while ( p_buffer.hasRemaining() )
+            if ( p_channel.read( p_buffer ) < 0 )
+                throw new IOException( "unexpected end of stream" );
+    }
+
+    /**
+     * checks a dimension of a dense structure
+     *
+     * @param p_value dimension
+     * @return dimension as integer
+     * @throws IOException if the dimension is too large
+     */
+    @Nonnegative
+    private static int dimension( @Nonnegative final long p_value ) throws IOException
+    {
+        if ( p_value > Integer.MAX_VALUE )
+            throw new IOException( "dimension is too large for a dense structure: " + p_value );
+        return (int) p_value;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.storage;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * header of the binary bit format.
+ * The header has got a fixed size of 32 bytes in little-endian
+ * byte order, it contains the magic number, the format version,
+ * the structure type, a flag, the number of columns and rows
+ * and the number of 64-bit words, which follows the header, a
+ * vector is stored with one row
+ */
+public final class CHeader
+{
+    /**
+     * size of the header in bytes
+     */
+    public static final int SIZE = 32;
+    /**
+     * byte order of the header and the words
+     */
+    public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    /**
+     * magic number ("LJBT")
+     */
+    private static final int MAGIC = 0x54424A4C;
+    /**
+     * format version
+     */
+    private static final short VERSION = 1;
+    /**
+     * vector type
+     */
+    public static final byte VECTOR = 0;
+    /**
+     * matrix type
+     */
+    public static final byte MATRIX = 1;
+    /**
+     * structure type
+     */
+    private final byte m_type;
+    /**
+     * flag
+     */
+    private final byte m_flag;
+    /**
+     * number of columns
+     */
+    private final long m_columns;
+    /**
+     * number of rows
+     */
+    private final long m_rows;
+
+    /**
+     * ctor
+     *
+     * @param p_type structure type
+     * @param p_flag flag
+     * @param p_columns number of columns
+     * @param p_rows number of rows
+     */
+    public CHeader( final byte p_type, final byte p_flag, @Nonnegative final long p_columns, @Nonnegative final long p_rows )
+    {
+        if ( p_type != VECTOR && p_type != MATRIX )
+            throw new IllegalArgumentException( "unknown structure type: " + p_type );
+        if ( p_columns < 0 || p_rows < 0 )
+            throw new IllegalArgumentException( "dimension must be non-negative: " + p_columns + " x " + p_rows );
+
+        m_type = p_type;
+        m_flag = p_flag;
+        m_columns = p_columns;
+        m_rows = p_rows;
+    }
+
+    /**
+     * structure type
+     *
+     * @return type
+     */
+    public byte type()
+    {
+        return m_type;
+    }
+
+    /**
+     * flag
+     *
+     * @return flag
+     */
+    public byte flag()
+    {
+        return m_flag;
+    }
+
+    /**
+     * number of columns
+     *
+     * @return columns
+     */
+    @Nonnegative
+    public long columns()
+    {
+        return m_columns;
+    }
+
+    /**
+     * number of rows
+     *
+     * @return rows
+     */
+    @Nonnegative
+    public long rows()
+    {
+        return m_rows;
+    }
+
+    /**
+     * number of bits
+     *
+     * @return size
+     */
+    @Nonnegative
+    public long size()
+    {
+        return m_columns * m_rows;
+    }
+
+    /**
+     * number of words
+     *
+     * @return words
+     */
+    @Nonnegative
+    public long words()
+    {
+        return ( this.size() + 63 ) >>> 6;
+    }
+
+    /**
+     * writes the header into a buffer
+     *
+     * @param p_buffer buffer with at least 32 remaining bytes
+     * @return buffer
+     */
+    @Nonnull
+    public ByteBuffer write( @Nonnull final ByteBuffer p_buffer )
+    {
+        return p_buffer.order( ORDER )
+                       .putInt( MAGIC )
+                       .putShort( VERSION )
+                       .put( m_type )
+                       .put( m_flag )
+                       .putLong( m_columns )
+                       .putLong( m_rows )
+                       .putLong( this.words() );
+    }
+
+    /**
+     * writes the header into a channel
+     *
+     * @param p_channel channel
+     * @throws IOException on write error
+     */
+    public void write( @Nonnull final WritableByteChannel p_channel ) throws IOException
+    {
+        final ByteBuffer l_buffer = this.write( ByteBuffer.allocate( SIZE ) );
+        l_buffer.flip();
+        while ( l_buffer.hasRemaining() )
+            p_channel.write( l_buffer );
+    }
+
+    /**
+     * reads a header from a buffer
+     *
+     * @param p_buffer buffer with at least 32 remaining bytes
+     * @return header
+     * @throws IOException on wrong format
+     */
+    @Nonnull
+    public static CHeader read( @Nonnull final ByteBuffer p_buffer ) throws IOException
+    {
+        p_buffer.order( ORDER );
+        if ( p_buffer.getInt() != MAGIC )
+            throw new IOException( "no bit structure format" );
+
+        final short l_version = p_buffer.getShort();
+        if ( l_version != VERSION )
+            throw new IOException( "unsupported format version: " + l_version );
+
+        final byte l_type = p_buffer.get();
+        final byte l_flag = p_buffer.get();
+        final CHeader l_header = new CHeader( l_type, l_flag, p_buffer.getLong(), p_buffer.getLong() );
+        if ( p_buffer.getLong() != l_header.words() )
+            throw new IOException( "number of words does not match the dimension" );
+
+        return l_header;
+    }
+
+    /**
+     * reads a header from a channel
+     *
+     * @param p_channel channel
+     * @return header
+     * @throws IOException on read error or wrong format
+     */
+    @Nonnull
+    public static CHeader read( @Nonnull final ReadableByteChannel p_channel ) throws IOException
+    {
+        final ByteBuffer l_buffer = ByteBuffer.allocate( SIZE );
+        while ( l_buffer.hasRemaining() )
+            if ( p_channel.read( l_buffer ) < 0 )
+                throw new IOException( "unexpected end of stream" );
+
+        l_buffer.flip();
+        return CHeader.read( l_buffer );
+    }
+
+}
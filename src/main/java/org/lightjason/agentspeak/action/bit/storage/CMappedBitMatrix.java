@@ -0,0 +1,209 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.storage;
+
+import cern.colt.matrix.tbit.BitVector;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
+
+
+/**
+ * memory-mapped bit matrix.
+ * The matrix stores the bits within a mapped bit vector with
+ * the layout of the dense bit matrix, so the bit of a column
+ * and row is stored at index row * columns + column
+ */
+public final class CMappedBitMatrix
+{
+    /**
+     * bits
+     */
+    private final CMappedBitVector m_vector;
+
+    /**
+     * ctor
+     *
+     * @param p_vector mapped vector with matrix header
+     */
+    private CMappedBitMatrix( @Nonnull final CMappedBitVector p_vector )
+    {
+        m_vector = p_vector;
+    }
+
+    /**
+     * opens an existing matrix file
+     *
+     * @param p_path file
+     * @return mapped matrix
+     * @throws IOException on file or format error
+     */
+    @Nonnull
+    public static CMappedBitMatrix open( @Nonnull final Path p_path ) throws IOException
+    {
+        final CMappedBitVector l_vector = CMappedBitVector.map( p_path, null );
+        if ( l_vector.header().type() != CHeader.MATRIX )
+            throw new IOException( "file does not store a matrix" );
+
+        return new CMappedBitMatrix( l_vector );
+    }
+
+    /**
+     * opens or creates a matrix file
+     *
+     * @param p_path file
+     * @param p_columns number of columns
+     * @param p_rows number of rows
+     * @return mapped matrix
+     * @throws IOException on file error or if the file stores another dimension
+     */
+    @Nonnull
+    public static CMappedBitMatrix open( @Nonnull final Path p_path, @Nonnegative final int p_columns, @Nonnegative final int p_rows ) throws IOException
+    {
+        return new CMappedBitMatrix( CMappedBitVector.map( p_path, new CHeader( CHeader.MATRIX, (byte) 0, p_columns, p_rows ) ) );
+    }
+
+    /**
+     * number of columns
+     *
+     * @return columns
+     */
+    @Nonnegative
+    public int columns()
+    {
+        return (int) m_vector.header().columns();
+    }
+
+    /**
+     * number of rows
+     *
+     * @return rows
+     */
+    @Nonnegative
+    public int rows()
+    {
+        return (int) m_vector.header().rows();
+    }
+
+    /**
+     * bits of the matrix in row-major order
+     *
+     * @return mapped vector
+     */
+    @Nonnull
+    public CMappedBitVector vector()
+    {
+        return m_vector;
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_column column
+     * @param p_row row
+     * @return bit value
+     */
+    public boolean get( @Nonnegative final int p_column, @Nonnegative final int p_row )
+    {
+        this.checkindex( p_column, p_row );
+        return m_vector.get( (long) p_row * this.columns() + p_column );
+    }
+
+    /**
+     * sets a bit
+     *
+     * @param p_column column
+     * @param p_row row
+     * @param p_value bit value
+     */
+    public void put( @Nonnegative final int p_column, @Nonnegative final int p_row, final boolean p_value )
+    {
+        this.checkindex( p_column, p_row );
+        m_vector.put( (long) p_row * this.columns() + p_column, p_value );
+    }
+
+    /**
+     * number of set bits
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    public long cardinality()
+    {
+        return m_vector.cardinality();
+    }
+
+    /**
+     * copies a row into a dense bit vector
+     *
+     * @param p_row row
+     * @return dense bit vector
+     */
+    @Nonnull
+    public BitVector row( @Nonnegative final int p_row )
+    {
+        this.checkindex( 0, p_row );
+        return m_vector.part( (long) p_row * this.columns(), this.columns() );
+    }
+
+    /**
+     * copies a column into a dense bit vector
+     *
+     * @param p_column column
+     * @return dense bit vector
+     */
+    @Nonnull
+    public BitVector column( @Nonnegative final int p_column )
+    {
+        this.checkindex( p_column, 0 );
+        final BitVector l_result = new BitVector( this.rows() );
+        for ( int i = 0; i < this.rows(); i++ )
+            l_result.putQuick( i, m_vector.get( (long) i * this.columns() + p_column ) );
+        return l_result;
+    }
+
+    /**
+     * writes all changes into the file
+     */
+    public void flush()
+    {
+        m_vector.flush();
+    }
+
+    /**
+     * checks a position
+     *
+     * @param p_column column
+     * @param p_row row
+     * @throws IndexOutOfBoundsException on wrong position
+     */
+    private void checkindex( final int p_column, final int p_row )
+    {
+        if ( p_column < 0 || p_column >= this.columns() || p_row < 0 || p_row >= this.rows() )
+            throw new IndexOutOfBoundsException( "column:" + p_column + ", row:" + p_row );
+    }
+
+}
@@ -0,0 +1,398 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.storage;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.CKernel;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+
+/**
+ * memory-mapped bit vector.
+ * The words are stored within a local file after the header
+ * and are mapped in segments of 1 GiB, so the vector does not
+ * use heap memory and the size is limited by the file system
+ * only, the bit layout is equal to the dense bit vector (bit i
+ * is stored in word i / 64 at position i % 64), the vector
+ * is not thread-safe like the dense bit vector, changes are
+ * written by the operating system or on flush
+ */
+public final class CMappedBitVector
+{
+    /**
+     * number of words within a block of bulk operations
+     */
+    public static final int BLOCKSIZE = 1024;
+    /**
+     * number of bits of the words within a segment (2^27 words)
+     */
+    private static final int SEGMENTSHIFT = 27;
+    /**
+     * mask of the word within a segment
+     */
+    private static final long SEGMENTMASK = ( 1L << SEGMENTSHIFT ) - 1;
+    /**
+     * header
+     */
+    private final CHeader m_header;
+    /**
+     * mapped segments
+     */
+    private final MappedByteBuffer[] m_buffers;
+    /**
+     * word views of the segments
+     */
+    private final LongBuffer[] m_segments;
+
+    /**
+     * ctor
+     *
+     * @param p_header header
+     * @param p_buffers mapped segments
+     */
+    private CMappedBitVector( @Nonnull final CHeader p_header, @Nonnull final MappedByteBuffer[] p_buffers )
+    {
+        m_header = p_header;
+        m_buffers = p_buffers;
+        m_segments = Arrays.stream( p_buffers ).map( i -> i.order( CHeader.ORDER ).asLongBuffer() ).toArray( LongBuffer[]::new );
+    }
+
+    /**
+     * opens an existing vector file
+     *
+     * @param p_path file
+     * @return mapped vector
+     * @throws IOException on file or format error
+     */
+    @Nonnull
+    public static CMappedBitVector open( @Nonnull final Path p_path ) throws IOException
+    {
+        return CMappedBitVector.map( p_path, null );
+    }
+
+    /**
+     * opens or creates a vector file
+     *
+     * @param p_path file
+     * @param p_size number of bits
+     * @return mapped vector
+     * @throws IOException on file error or if the file stores another size
+     */
+    @Nonnull
+    public static CMappedBitVector open( @Nonnull final Path p_path, @Nonnegative final long p_size ) throws IOException
+    {
+        return CMappedBitVector.map( p_path, new CHeader( CHeader.VECTOR, (byte) 0, p_size, 1 ) );
+    }
+
+    /**
+     * maps a file, the file is created if the header is set
+     *
+     * @param p_path file
+     * @param p_header expected header or null
+     * @return mapped vector
+     * @throws IOException on file or format error
+     */
+    @Nonnull
+    static CMappedBitVector map( @Nonnull final Path p_path, @Nullable final CHeader p_header ) throws IOException
+    {
+        try
+        (
+            final FileChannel l_channel = p_header == null
+                                          ? FileChannel.open( p_path, StandardOpenOption.READ, StandardOpenOption.WRITE )
+                                          : FileChannel.open( p_path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE )
+        )
+        {
+            final CHeader l_header;
+            if ( l_channel.size() == 0 && p_header != null )
+            {
+                p_header.write( l_channel );
+                l_header = p_header;
+            }
+            else
+            {
+                l_header = CHeader.read( l_channel );
+                if ( p_header != null && ( l_header.type() != p_header.type() || l_header.columns() != p_header.columns() || l_header.rows() != p_header.rows() ) )
+                    throw new IOException( "file stores a structure with another dimension: " + l_header.columns() + " x " + l_header.rows() );
+            }
+
+            if ( l_header.flag() != 0 )
+                throw new IOException( "compressed file cannot be mapped" );
+
+            final long l_words = l_header.words();
+            final MappedByteBuffer[] l_buffers = new MappedByteBuffer[(int) ( ( l_words + SEGMENTMASK ) >>> SEGMENTSHIFT )];
+            for ( int i = 0; i < l_buffers.length; i++ )
+                l_buffers[i] = l_channel.map(
+                    FileChannel.MapMode.READ_WRITE,
+                    CHeader.SIZE + 8L * ( (long) i << SEGMENTSHIFT ),
+                    8L * Math.min( 1L << SEGMENTSHIFT, l_words - ( (long) i << SEGMENTSHIFT ) )
+                );
+
+            return new CMappedBitVector( l_header, l_buffers );
+        }
+    }
+
+    /**
+     * header
+     *
+     * @return header
+     */
+    @Nonnull
+    final CHeader header()
+    {
+        return m_header;
+    }
+
+    /**
+     * number of bits
+     *
+     * @return size
+     */
+    @Nonnegative
+    public long size()
+    {
+        return m_header.size();
+    }
+
+    /**
+     * number of words
+     *
+     * @return words
+     */
+    @Nonnegative
+    public long words()
+    {
+        return m_header.words();
+    }
+
+    /**
+     * returns a bit
+     *
+     * @param p_index index
+     * @return bit value
+     */
+    public boolean get( @Nonnegative final long p_index )
+    {
+        this.checkindex( p_index );
+        return ( this.word( p_index >>> 6 ) & ( 1L << p_index ) ) != 0;
+    }
+
+    /**
+     * sets a bit
+     *
+     * @param p_index index
+     * @param p_value bit value
+     */
+    public void put( @Nonnegative final long p_index, final boolean p_value )
+    {
+        this.checkindex( p_index );
+        final long l_word = this.word( p_index >>> 6 );
+        this.word( p_index >>> 6, p_value ? l_word | ( 1L << p_index ) : l_word & ~( 1L << p_index ) );
+    }
+
+    /**
+     * returns a word
+     *
+     * @param p_index word index
+     * @return word
+     */
+    public long word( @Nonnegative final long p_index )
+    {
+        return m_segments[(int) ( p_index >>> SEGMENTSHIFT )].get( (int) ( p_index & SEGMENTMASK ) );
+    }
+
+    /**
+     * sets a word
+     *
+     * @param p_index word index
+     * @param p_word word
+     */
+    public void word( @Nonnegative final long p_index, final long p_word )
+    {
+        m_segments[(int) ( p_index >>> SEGMENTSHIFT )].put( (int) ( p_index & SEGMENTMASK ), p_word );
+    }
+
+    /**
+     * reads words
+     *
+     * @param p_from first word index
+     * @param p_target target array
+     * @param p_offset offset within the target
+     * @param p_length number of words
+     */
+    public void read( @Nonnegative final long p_from, @Nonnull final long[] p_target, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        int l_done = 0;
+        while ( l_done < p_length )
+        {
+            final long l_index = p_from + l_done;
+            final LongBuffer l_segment = m_segments[(int) ( l_index >>> SEGMENTSHIFT )].duplicate();
+            l_segment.position( (int) ( l_index & SEGMENTMASK ) );
+
+            final int l_length = Math.min( p_length - l_done, l_segment.remaining() );
+            l_segment.get( p_target, p_offset + l_done, l_length );
+            l_done += l_length;
+        }
+    }
+
+    /**
+     * writes words
+     *
+     * @param p_from first word index
+     * @param p_source source array
+     * @param p_offset offset within the source
+     * @param p_length number of words
+     */
+    public void write( @Nonnegative final long p_from, @Nonnull final long[] p_source, @Nonnegative final int p_offset, @Nonnegative final int p_length )
+    {
+        int l_done = 0;
+        while ( l_done < p_length )
+        {
+            final long l_index = p_from + l_done;
+            final LongBuffer l_segment = m_segments[(int) ( l_index >>> SEGMENTSHIFT )].duplicate();
+            l_segment.position( (int) ( l_index & SEGMENTMASK ) );
+
+            final int l_length = Math.min( p_length - l_done, l_segment.remaining() );
+            l_segment.put( p_source, p_offset + l_done, l_length );
+            l_done += l_length;
+        }
+    }
+
+    /**
+     * number of set bits, the blocks
+     * are counted in parallel
+     *
+     * @return cardinality
+     */
+    @Nonnegative
+    public long cardinality()
+    {
+        return LongStream.range( 0, ( this.words() + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                         .parallel()
+                         .map( i ->
+                         {
+                             final long[] l_block = this.block( i * BLOCKSIZE );
+                             if ( i * BLOCKSIZE + l_block.length == this.words() )
+                                 l_block[l_block.length - 1] &= CKernel.tailmask( (int) ( this.size() & 63 ) );
+                             return Arrays.stream( l_block ).map( Long::bitCount ).sum();
+                         } )
+                         .sum();
+    }
+
+    /**
+     * logical not, bits behind the
+     * size stay cleared
+     */
+    public void not()
+    {
+        LongStream.range( 0, ( this.words() + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                  .parallel()
+                  .forEach( i ->
+                  {
+                      final long[] l_block = this.block( i * BLOCKSIZE );
+                      for ( int j = 0; j < l_block.length; j++ )
+                          l_block[j] = ~l_block[j];
+                      if ( i * BLOCKSIZE + l_block.length == this.words() )
+                          l_block[l_block.length - 1] &= CKernel.tailmask( (int) ( this.size() & 63 ) );
+                      this.write( i * BLOCKSIZE, l_block, 0, l_block.length );
+                  } );
+    }
+
+    /**
+     * copies a bit range into a dense bit vector
+     *
+     * @param p_from first bit index
+     * @param p_length number of bits
+     * @return dense bit vector
+     */
+    @Nonnull
+    public BitVector part( @Nonnegative final long p_from, @Nonnegative final int p_length )
+    {
+        if ( p_from < 0 || p_length < 0 || p_from + p_length > this.size() )
+            throw new IndexOutOfBoundsException( "from: " + p_from + ", length: " + p_length + ", size: " + this.size() );
+
+        final BitVector l_result = new BitVector( p_length );
+        if ( p_length == 0 )
+            return l_result;
+
+        final long[] l_target = l_result.elements();
+        final int l_shift = (int) ( p_from & 63 );
+        final long l_first = p_from >>> 6;
+        final long[] l_source = new long[(int) Math.min( l_target.length + 1, this.words() - l_first )];
+        this.read( l_first, l_source, 0, l_source.length );
+
+        for ( int i = 0; i < l_target.length; i++ )
+            l_target[i] = l_shift == 0
+                          ? l_source[i]
+                          : ( l_source[i] >>> l_shift ) | ( i + 1 < l_source.length ? l_source[i + 1] << ( 64 - l_shift ) : 0 );
+        l_target[l_target.length - 1] &= CKernel.tailmask( p_length );
+
+        return l_result;
+    }
+
+    /**
+     * writes all changes into the file
+     */
+    public void flush()
+    {
+        Arrays.stream( m_buffers ).forEach( MappedByteBuffer::force );
+    }
+
+    /**
+     * reads a block of words
+     *
+     * @param p_from first word index
+     * @return block with at most 1024 words
+     */
+    @Nonnull
+    private long[] block( @Nonnegative final long p_from )
+    {
+        final long[] l_block = new long[(int) Math.min( BLOCKSIZE, this.words() - p_from )];
+        this.read( p_from, l_block, 0, l_block.length );
+        return l_block;
+    }
+
+    /**
+     * checks an index
+     *
+     * @param p_index index
+     * @throws IndexOutOfBoundsException on wrong index
+     */
+    private void checkindex( final long p_index )
+    {
+        if ( p_index < 0 || p_index >= this.size() )
+            throw new IndexOutOfBoundsException( "Attempted to access at index=" + p_index );
+    }
+
+}
@@ -23,7 +23,7 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
@@ -57,9 +57,15 @@ public final class CAnd extends IBaseOperator
     }
 
     @Override
-    protected void apply( @Nonnull final BitVector p_target, @Nonnull final BitVector p_source )
+    protected void apply( @Nonnull final long[] p_target, @Nonnull final long[] p_source, final int p_offset, final int p_length )
     {
-        p_target.and( p_source );
+        for ( int i = 0; i < p_length; i++ )
+            p_target[p_offset + i] &= p_source[i];
     }
 
+    @Override
+    protected void apply( @Nonnull final CCompressedBitVector p_target, @Nonnull final CCompressedBitVector p_source )
+    {
+        p_target.and( p_source );
+    }
 }
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.bit.vector;
 
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -36,6 +37,7 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -80,14 +82,15 @@ public final class CBoolValue extends IBaseAction
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
 
-        l_arguments.stream()
-                   .skip( 1 )
-                   .map( ITerm::<Number>raw )
-                   .mapToInt( Number::intValue )
-                   .boxed()
-                   .map( i -> l_arguments.get( 0 ).<BitVector>raw().getQuick( i ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final boolean[] l_values = CVectorAccessor.get(
+            l_arguments.get( 0 ).raw(),
+            l_arguments.stream().skip( 1 ).map( ITerm::<Number>raw ).mapToInt( Number::intValue ).toArray()
+        );
+
+        IntStream.range( 0, l_values.length )
+                 .mapToObj( i -> l_values[i] )
+                 .map( CRawTerm::of )
+                 .forEach( p_return::add );
 
         return Stream.empty();
     }
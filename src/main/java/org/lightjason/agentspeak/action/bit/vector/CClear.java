@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
@@ -33,7 +33,6 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,16 +78,16 @@ public final class CClear extends IBaseAction
     )
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-        final int[] l_index = l_arguments.parallelStream()
-                                         .filter( i -> CCommon.isssignableto( i, Number.class ) )
-                                         .map( ITerm::<Number>raw )
-                                         .mapToInt( Number::intValue )
-                                         .toArray();
+        final int[] l_indices = l_arguments.stream()
+                                           .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                           .map( ITerm::<Number>raw )
+                                           .mapToInt( Number::intValue )
+                                           .toArray();
 
-        l_arguments.parallelStream()
-                   .filter( i -> CCommon.isssignableto( i, BitVector.class ) )
-                   .map( ITerm::<BitVector>raw )
-                   .forEach( i -> Arrays.stream( l_index ).forEach( i::clear ) );
+        l_arguments.stream()
+                   .map( ITerm::raw )
+                   .filter( CVectorAccessor::isvector )
+                   .forEach( i -> CVectorAccessor.apply( i, l_indices, false ) );
 
         return Stream.empty();
     }
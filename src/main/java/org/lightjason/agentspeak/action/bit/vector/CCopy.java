@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -41,7 +41,9 @@ import java.util.stream.Stream;
 /**
  * returns a copy of the vector.
  * All input vector objects will be
- * copied and returned
+ * copied and returned, a range view or a
+ * memory-mapped vector is copied into a
+ * new bit vector
  *
  * {@code [A|B] = .math/bit/vector/copy( Vector1, Vector2 );}
  */
@@ -77,8 +79,8 @@ public final class CCopy extends IBaseAction
     )
     {
         CCommon.flatten( p_argument )
-               .map( ITerm::<BitVector>raw )
-               .map( BitVector::copy )
+               .map( ITerm::raw )
+               .map( CVectorAccessor::copy )
                .map( CRawTerm::of )
                .forEach( p_return::add );
 
@@ -0,0 +1,68 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+
+
+/**
+ * counts the true bits within ranges.
+ * The first argument is the bit vector, all other
+ * arguments are tuples of inclusive ranges, for
+ * each range the number of true bits is returned
+ *
+ * {@code [C1|C2] = .math/bit/vector/countrange( BitVector, 0, 5, [10, 20] );}
+ */
+public final class CCountRange extends IBaseRange
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4601055189875474797L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCountRange.class, "math", "bit", "vector" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Override
+    protected void apply( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final long p_to,
+                          @Nonnull final List<ITerm> p_return )
+    {
+        p_return.add( CRawTerm.of( (double) CVectorAccessor.cardinality( p_vector, p_from, p_to ) ) );
+    }
+}
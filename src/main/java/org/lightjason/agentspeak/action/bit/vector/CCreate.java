@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.EBlasType;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -35,16 +35,20 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * creates a bit vector.
- * All arguments are defined the size of bit vectors, so
- * for each input argument a bit vector will be created and
- * returned
+ * All number arguments are defined the size of bit vectors, so
+ * for each number argument a bit vector will be created and
+ * returned, an optional string argument "dense" or "sparse"
+ * defines the representation, sparse vectors are stored
+ * compressed and are supported by all vector actions,
+ * default is dense
  *
- * {@code [A|B|C|D] = .math/bit/vector/create( 3, [2, [1, 12]] );}
+ * {@code [A|B|C|D] = .math/bit/vector/create( 3, [2, [1, 12]], "dense | sparse" );}
  */
 public final class CCreate extends IBaseAction
 {
@@ -77,13 +81,20 @@ public final class CCreate extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToInt( Number::intValue )
-               .boxed()
-               .map( BitVector::new )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final EBlasType l_type = l_arguments.stream()
+                                            .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                            .findFirst()
+                                            .map( i -> EBlasType.of( i.<String>raw() ) )
+                                            .orElse( EBlasType.DENSE );
+
+        l_arguments.stream()
+                   .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                   .map( ITerm::<Number>raw )
+                   .mapToInt( Number::intValue )
+                   .mapToObj( l_type::create )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -41,7 +41,8 @@ import java.util.stream.Stream;
 /**
  * returns the number of false values.
  * The actions returnf for each input vector the
- * number of true values
+ * number of false values, memory-mapped bit
+ * vectors and range views are also supported
  *
  * {@code [A|B] = .math/bit/vector/falsecount( BitVector1, BitVector2 );}
  */
@@ -77,8 +78,8 @@ public final class CFalseCount extends IBaseAction
     )
     {
         CCommon.flatten( p_argument )
-               .map( ITerm::<BitVector>raw )
-               .mapToDouble( i -> i.size() - i.cardinality() )
+               .map( ITerm::raw )
+               .mapToDouble( i -> CVectorAccessor.size( i ) - CVectorAccessor.cardinality( i ) )
                .boxed()
                .map( CRawTerm::of )
                .forEach( p_return::add );
@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.tbit.BitVector;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * converts a blas vector to a bit vector.
+ * The action converts each blas vector argument to a bit vector,
+ * an optional number argument is a threshold, a bit is set if
+ * the value is greater than the threshold, without threshold
+ * a bit is set if the value is not zero, dense vectors are packed
+ * by words, on sparse vectors only the non-zeros are read,
+ * the action never fails
+ *
+ * {@code
+ * [A|B] = .math/bit/vector/fromblas( BlasVector1, BlasVector2 );
+ * C = .math/bit/vector/fromblas( BlasVector, 0.5 );
+ * }
+ */
+public final class CFromBlas extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6419282309245126730L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CFromBlas.class, "math", "bit", "vector" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final DoublePredicate l_predicate = l_arguments.stream()
+                                                       .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                                       .findFirst()
+                                                       .map( i -> i.<Number>raw().doubleValue() )
+                                                       .<DoublePredicate>map( i -> j -> j > i )
+                                                       .orElse( i -> i != 0 );
+
+        l_arguments.stream()
+                   .filter( i -> CCommon.isssignableto( i, DoubleMatrix1D.class ) )
+                   .map( ITerm::<DoubleMatrix1D>raw )
+                   .map( i -> i instanceof DenseDoubleMatrix1D
+                              ? new BitVector( CKernel.pack( (int) i.size(), j -> l_predicate.test( i.getQuick( j ) ), p_parallel ), (int) i.size() )
+                              : CFromBlas.fromsparse( i, l_predicate ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * converts a sparse vector, the bits are initialized
+     * by the zero value and only the non-zeros are set
+     *
+     * @param p_vector sparse vector
+     * @param p_predicate bit predicate
+     * @return bit vector
+     */
+    @Nonnull
+    private static BitVector fromsparse( @Nonnull final DoubleMatrix1D p_vector, @Nonnull final DoublePredicate p_predicate )
+    {
+        final BitVector l_result = new BitVector( (int) p_vector.size() );
+        if ( p_predicate.test( 0 ) )
+            l_result.not();
+
+        if ( p_vector instanceof SparseDoubleMatrix1D && !p_vector.isView() )
+        {
+            ( (SparseDoubleMatrix1D) p_vector ).elements().forEachPair( ( i, j ) ->
+            {
+                l_result.putQuick( (int) i, p_predicate.test( j ) );
+                return true;
+            } );
+            return l_result;
+        }
+
+        final IntArrayList l_indices = new IntArrayList();
+        final DoubleArrayList l_values = new DoubleArrayList();
+        p_vector.getNonZeros( l_indices, l_values );
+        IntStream.range( 0, l_indices.size() ).forEach( i -> l_result.putQuick( l_indices.getQuick( i ), p_predicate.test( l_values.getQuick( i ) ) ) );
+
+        return l_result;
+    }
+}
@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -44,7 +44,9 @@ import java.util.stream.Stream;
  * calculates the hamming distance.
  * The action calculates between bit vectors,
  * the distance will be calculated between the first
- * and all other arguments
+ * and all other arguments, the distance is counted
+ * on the words of the vectors without a copy, memory-mapped
+ * bit vectors and range views are counted block-wise
  *
  * {@code [A|B] = .math/bit/vector/hammingdistance( Vector1, Vector2, Vector3 );}
  *
@@ -81,15 +83,13 @@ public final class CHammingDistance extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<BitVector> l_arguments = CCommon.flatten( p_argument ).map( ITerm::<BitVector>raw ).collect( Collectors.toList() );
+        final List<Object> l_arguments = CCommon.flatten( p_argument ).map( ITerm::raw ).collect( Collectors.toList() );
         if ( l_arguments.size() < 2 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 3 ) );
 
         l_arguments.stream()
                    .skip( 1 )
-                   .map( BitVector::copy )
-                   .peek( i -> i.xor( l_arguments.get( 0 ) ) )
-                   .mapToDouble( BitVector::cardinality )
+                   .mapToDouble( i -> CVectorAccessor.hammingdistance( i, l_arguments.get( 0 ) ) )
                    .boxed()
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
@@ -0,0 +1,119 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import cern.colt.matrix.tbit.BitVector;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the all-pairs hamming distance matrix.
+ * The action calculates the hamming distance between
+ * all pairs of the input bit vectors and returns a symmetric
+ * blas matrix, the value at (i, j) is the distance between
+ * the i-th and j-th vector, all vectors must have the same size,
+ * otherwise the action fails, the pairs are calculated in
+ * parallel only on a parallel execution, range views and
+ * memory-mapped vectors are copied before, the action fails
+ * if the matrix has more than 2^31 - 1 values
+ *
+ * {@code M = .math/bit/vector/hammingmatrix( Vector1, Vector2, [Vector3, Vector4] );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Hamming_distance"></a>
+ */
+public final class CHammingMatrix extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1446720395837611406L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CHammingMatrix.class, "math", "bit", "vector" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<Object> l_vectors = CCommon.flatten( p_argument ).map( ITerm::raw ).collect( Collectors.toList() );
+        if ( (long) l_vectors.size() * l_vectors.size() > Integer.MAX_VALUE )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "toolarge", l_vectors.size(), Integer.MAX_VALUE )
+            );
+
+        final List<BitVector> l_arguments = l_vectors.stream().map( CVectorAccessor::dense ).collect( Collectors.toList() );
+        if ( l_arguments.stream().mapToInt( BitVector::size ).distinct().count() > 1 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "differentsize" ) );
+
+        final int l_count = l_arguments.size();
+        p_return.add(
+            CRawTerm.of(
+                new DenseDoubleMatrix2D(
+                    l_count, l_count,
+                    CKernel.hammingmatrix(
+                        l_arguments.stream().map( BitVector::elements ).toArray( long[][]::new ),
+                        l_arguments.isEmpty() ? 0 : l_arguments.get( 0 ).size(),
+                        p_parallel
+                    ),
+                    0, 0, l_count, 1, false
+                )
+            )
+        );
+
+        return Stream.empty();
+    }
+}
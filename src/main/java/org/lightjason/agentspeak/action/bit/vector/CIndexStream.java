@@ -0,0 +1,67 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * set bit indices of a bit vector.
+ * The object is created by the indices action and
+ * references the vector, so the lambda streaming
+ * of the object returns the indices of the set bits
+ * instead of the bit values of the vector
+ *
+ * @see CIndices
+ * @see CLambdaIndexStreaming
+ */
+public final class CIndexStream
+{
+    /**
+     * dense, compressed, view or mapped vector
+     */
+    private final Object m_vector;
+
+    /**
+     * ctor
+     *
+     * @param p_vector dense, compressed, view or mapped vector
+     */
+    public CIndexStream( @Nonnull final Object p_vector )
+    {
+        m_vector = p_vector;
+    }
+
+    /**
+     * returns the vector
+     *
+     * @return dense, compressed, view or mapped vector
+     */
+    @Nonnull
+    public Object vector()
+    {
+        return m_vector;
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+
+import java.util.stream.Stream;
+
+
+/**
+ * streaming the indices of the set bits of a bit vector.
+ * The object is created by the indices action, the set bits
+ * are found by scanning the words with a primitive spliterator,
+ * so the time depends on the number of words and set bits only
+ *
+ * @see CIndices
+ * @see CLambdaStreaming
+ */
+public final class CLambdaIndexStreaming extends IBaseLambdaStreaming<CIndexStream>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8651241528800869941L;
+
+    @Override
+    public Stream<?> apply( final CIndexStream p_indices )
+    {
+        return CVectorAccessor.stream( p_indices.vector(), true );
+    }
+
+    @NonNull
+    @Override
+    public Stream<Class<?>> assignable()
+    {
+        return Stream.of( CIndexStream.class );
+    }
+}
@@ -26,15 +26,23 @@ package org.lightjason.agentspeak.action.bit.vector;
 import cern.colt.matrix.tbit.BitVector;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+import org.lightjason.agentspeak.action.bit.CBitVectorView;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitVector;
 
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
- * streaming a bit vector
+ * streaming a bit vector.
+ * The vector is streamed by a primitive spliterator over
+ * the words, each bit is returned as 0 / 1, compressed,
+ * view and mapped vectors are streamed in word blocks
+ *
+ * @see CLambdaIndexStreaming
  */
-public final class CLambdaStreaming extends IBaseLambdaStreaming<BitVector>
+public final class CLambdaStreaming extends IBaseLambdaStreaming<Object>
 {
     /**
      * serial id
@@ -42,15 +50,15 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<BitVector>
     private static final long serialVersionUID = 3608586892880271763L;
 
     @Override
-    public Stream<?> apply( final BitVector p_vector )
+    public Stream<?> apply( final Object p_vector )
     {
-        return IntStream.range( 0, p_vector.size() ).boxed().map( i -> p_vector.getQuick( i ) ? 1 : 0 );
+        return CVectorAccessor.stream( p_vector, false );
     }
 
     @NonNull
     @Override
     public Stream<Class<?>> assignable()
     {
-        return Stream.of( BitVector.class );
+        return Stream.of( BitVector.class, CCompressedBitVector.class, CBitVectorView.class, CMappedBitVector.class );
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the k-nearest bit vectors by hamming distance.
+ * The first argument is the number k of neighbours, the
+ * second argument is the query vector and all other arguments
+ * are candidate vectors, the action returns for the k closest
+ * candidates tuples of the candidate and the distance, sorted
+ * by the distance, the distance is calculated in the same way
+ * as the hamming distance action, k can be larger than the number
+ * of candidates, the action fails on a negative k, range views
+ * and memory-mapped vectors are copied for the search
+ *
+ * {@code [V1|D1|V2|D2] = .math/bit/vector/nearest( 2, Query, Candidate1, [Candidate2, Candidate3] );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Nearest_neighbor_search"></a>
+ */
+public final class CNearest extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6146503938446582817L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CNearest.class, "math", "bit", "vector" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final int l_count = l_arguments.get( 0 ).<Number>raw().intValue();
+        if ( l_count < 0 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "negativecount", l_count ) );
+
+        final List<Object> l_candidates = l_arguments.stream()
+                                                     .skip( 2 )
+                                                     .map( ITerm::raw )
+                                                     .collect( Collectors.toList() );
+
+        Arrays.stream(
+            CKernel.nearest(
+                CVectorAccessor.dense( l_arguments.get( 1 ).raw() ),
+                l_candidates.stream().map( CVectorAccessor::dense ).collect( Collectors.toList() ),
+                l_count, p_parallel
+            )
+        )
+              .forEach( i ->
+              {
+                  p_return.add( CRawTerm.of( l_candidates.get( (int) i ) ) );
+                  p_return.add( CRawTerm.of( (double) ( i >>> 32 ) ) );
+              } );
+
+        return Stream.empty();
+    }
+}
@@ -23,9 +23,10 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,13 +35,17 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * performs the logical not operation to all bit vectors.
  * Each input argument defines a bit vector and
- * the action apply the logical not operator
+ * the action apply the logical not operator, compressed and
+ * memory-mapped bit vectors and range views are also supported,
+ * the action fails if two arguments share bits, e.g. a vector and
+ * an overlapping range view
  *
  * {@code .math/bit/vector/not( Vector1, Vector2 );}
  */
@@ -75,10 +80,11 @@ public final class CNot extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .parallel()
-               .map( ITerm::<BitVector>raw )
-               .forEach( BitVector::not );
+        final List<Object> l_arguments = CCommon.flatten( p_argument ).map( ITerm::raw ).collect( Collectors.toList() );
+        if ( CVectorAccessor.overlaps( l_arguments ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "overlapping" ) );
+
+        l_arguments.parallelStream().forEach( CVectorAccessor::not );
 
         return Stream.empty();
     }
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.bit.vector;
 
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -88,7 +89,7 @@ public final class CNumericValue extends IBaseAction
                    .map( ITerm::<Number>raw )
                    .mapToInt( Number::intValue )
                    .boxed()
-                   .mapToDouble( i -> l_arguments.get( 0 ).<BitVector>raw().getQuick( i ) ? 1 : 0 )
+                   .mapToDouble( i -> CVectorAccessor.get( l_arguments.get( 0 ).raw(), i ) ? 1 : 0 )
                    .boxed()
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
@@ -23,9 +23,9 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -47,9 +47,16 @@ import java.util.stream.Stream;
  * range, the first argument is a bit vector,
  * all other arguments are tuples of ranges,
  * the action fails on wrong input, index starts
- * at zero
+ * at zero, with the optional string "view" the action
+ * returns range views instead of copies, a view shares
+ * the words of the vector, so changes of the view are
+ * written into the vector, all vector actions support
+ * views, ranges of a memory-mapped vector are copied
+ * into new bit vectors, views cannot be created on
+ * memory-mapped vectors
  *
  * {@code [V1|V2] = .math/bit/vector/range( BitVector, 0, 1, [3, 5] );}
+ * {@code [V1|V2] = .math/bit/vector/range( "view", BitVector, 0, 1, [3, 5] );}
  */
 public final class CRange extends IBaseAction
 {
@@ -83,18 +90,32 @@ public final class CRange extends IBaseAction
     )
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-        if ( l_arguments.size() % 2 == 0 )
+        final boolean l_view = l_arguments.stream()
+                                          .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                          .map( ITerm::<String>raw )
+                                          .anyMatch( i -> "view".equalsIgnoreCase( i.trim() ) );
+
+        final List<ITerm> l_ranges = l_arguments.stream()
+                                                .filter( i -> !CCommon.isssignableto( i, String.class ) )
+                                                .collect( Collectors.toList() );
+        if ( l_ranges.size() % 2 == 0 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentsnotodd" ) );
 
+        final Object l_vector = l_ranges.get( 0 ).raw();
+        if ( l_view && !CVectorAccessor.viewable( l_vector ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "viewnotsupported" ) );
+
         StreamUtils.windowed(
-            l_arguments.stream()
-                       .skip( 1 )
-                       .map( ITerm::<Number>raw )
-                       .mapToInt( Number::intValue )
-                       .boxed(),
+            l_ranges.stream()
+                    .skip( 1 )
+                    .map( ITerm::<Number>raw )
+                    .mapToInt( Number::intValue )
+                    .boxed(),
             2,
             2
-        ).map( i -> l_arguments.get( 0 ).<BitVector>raw().partFromTo( i.get( 0 ), i.get( 1 ) ) )
+        ).map( i -> l_view
+                    ? CVectorAccessor.view( l_vector, i.get( 0 ), i.get( 1 ) )
+                    : CVectorAccessor.part( l_vector, i.get( 0 ), i.get( 1 ) - i.get( 0 ) + 1 ) )
                    .map( CRawTerm::of )
                    .forEach( p_return::add );
 
@@ -0,0 +1,113 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.EBlasType;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * changes the representation of bit vectors.
+ * The arguments are dense or compressed bit vectors, an
+ * optional string argument "dense" or "sparse" defines the
+ * representation, without the string the representation
+ * is chosen by the measured density of each vector, a
+ * dense vector becomes sparse below a density of 1/32 and
+ * a sparse vector becomes dense above a density of 1/8, the
+ * action returns for each vector the vector itself if the
+ * representation is unchanged, otherwise a converted copy,
+ * range views and memory-mapped vectors cannot be converted,
+ * so the action fails on them
+ *
+ * {@code [A|B] = .math/bit/vector/representation( Vector1, Vector2, "dense | sparse" );}
+ */
+public final class CRepresentation extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4633916420581330473L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CRepresentation.class, "math", "bit", "vector" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final Optional<EBlasType> l_type = l_arguments.stream()
+                                                      .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                                      .findFirst()
+                                                      .map( i -> EBlasType.of( i.<String>raw() ) );
+
+        final List<Object> l_vectors = l_arguments.stream()
+                                                  .filter( i -> !CCommon.isssignableto( i, String.class ) )
+                                                  .map( ITerm::raw )
+                                                  .collect( Collectors.toList() );
+
+        if ( l_vectors.stream().anyMatch( i -> !( i instanceof BitVector || i instanceof CCompressedBitVector ) ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unsupported" ) );
+
+        l_vectors.stream()
+                 .map( i -> l_type.orElseGet( () -> EBlasType.density( i ) ).convert( i ) )
+                 .map( CRawTerm::of )
+                 .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+}
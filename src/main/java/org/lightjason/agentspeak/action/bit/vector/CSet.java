@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.bit.vector;
 
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
@@ -83,12 +84,11 @@ public final class CSet extends IBaseAction
                                 ? l_arguments.get( 1 ).<Number>raw().intValue() != 0
                                 : l_arguments.get( 1 ).<Boolean>raw();
 
-        l_arguments.stream()
-                   .skip( 2 )
-                   .map( ITerm::<Number>raw )
-                   .mapToInt( Number::intValue )
-                   .boxed()
-                   .forEach( i -> l_arguments.get( 0 ).<BitVector>raw().put( i, l_value ) );
+        CVectorAccessor.apply(
+            l_arguments.get( 0 ).raw(),
+            l_arguments.stream().skip( 2 ).map( ITerm::<Number>raw ).mapToInt( Number::intValue ).toArray(),
+            l_value
+        );
 
         return Stream.empty();
     }
@@ -23,8 +23,8 @@
 
 package org.lightjason.agentspeak.action.bit.vector;
 
-import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -41,7 +41,10 @@ import java.util.stream.Stream;
 /**
  * returns the size of the vector.
  * All input vector objects will return
- * their size (number of bits)
+ * their size (number of bits), range views
+ * and memory-mapped vectors are also supported,
+ * a size outside the integer range is returned
+ * as long value
  *
  * {@code [A|B] = .math/bit/vector/size( Vector1, Vector2 );}
  */
@@ -77,8 +80,9 @@ public final class CSize extends IBaseAction
     )
     {
         CCommon.flatten( p_argument )
-               .map( ITerm::<BitVector>raw )
-               .map( BitVector::size )
+               .map( ITerm::raw )
+               .mapToLong( CVectorAccessor::size )
+               .mapToObj( i -> i > Integer.MAX_VALUE ? (Number) i : (Number) (int) i )
                .map( CRawTerm::of )
                .forEach( p_return::add );
 
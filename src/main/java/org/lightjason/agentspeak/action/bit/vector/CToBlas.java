@@ -27,6 +27,8 @@ import cern.colt.matrix.tbit.BitVector;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.action.bit.EBlasType;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -37,9 +39,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -47,8 +49,8 @@ import java.util.stream.Stream;
  * converts the bit vector to a blas vector.
  * The action converts the bit vector to a blas vector,
  * the last argument can be "dense" or "sparse", all
- * other arguments are bit vectors and the actions
- * never fails
+ * other arguments are bit vectors, range views or
+ * memory-mapped vectors and the actions never fails
  *
  * {@code [A|B] = .math/bit/vector/toblas( BitVector1, BitVector2, "dense | sparse" );}
  */
@@ -87,22 +89,39 @@ public final class CToBlas extends IBaseAction
         if  ( EBlasType.DENSE == l_arguments.parallelStream().filter( i -> CCommon.isssignableto( i, String.class ) )
                                             .findFirst().map( i -> EBlasType.of( i.<String>raw() ) ).orElse( EBlasType.SPARSE ) )
             l_arguments.stream()
-                       .filter( i -> CCommon.isssignableto( i, BitVector.class ) )
-                       .map( ITerm::<BitVector>raw )
-                       .map( i -> IntStream.range( 0, i.size() ).boxed().mapToDouble( j -> i.getQuick( j ) ? 1 : 0 ).toArray() )
+                       .map( ITerm::raw )
+                       .filter( CVectorAccessor::isvector )
+                       .map( CVectorAccessor::dense )
+                       .map( i -> CKernel.todouble( i.elements(), i.size(), p_parallel ) )
                        .map( DenseDoubleMatrix1D::new )
                        .map( CRawTerm::of )
                        .forEach( p_return::add );
 
         else
             l_arguments.stream()
-                       .filter( i -> CCommon.isssignableto( i, BitVector.class ) )
-                       .map( ITerm::<BitVector>raw )
-                       .map( i -> IntStream.range( 0, i.size() ).boxed().mapToDouble( j -> i.getQuick( j ) ? 1 : 0 ).toArray() )
-                       .map( SparseDoubleMatrix1D::new )
+                       .map( ITerm::raw )
+                       .filter( CVectorAccessor::isvector )
+                       .map( CVectorAccessor::dense )
+                       .map( CToBlas::tosparse )
                        .map( CRawTerm::of )
                        .forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * converts a bit vector into a sparse vector,
+     * only the set bits are stored
+     *
+     * @param p_vector bit vector
+     * @return sparse vector
+     */
+    @Nonnull
+    private static SparseDoubleMatrix1D tosparse( @Nonnull final BitVector p_vector )
+    {
+        final int[] l_indices = CKernel.indices( p_vector.elements(), p_vector.size() );
+        final SparseDoubleMatrix1D l_result = new SparseDoubleMatrix1D( p_vector.size(), Math.max( 1, l_indices.length ), 0.2, 0.5 );
+        Arrays.stream( l_indices ).forEach( i -> l_result.setQuick( i, 1 ) );
+        return l_result;
+    }
 }
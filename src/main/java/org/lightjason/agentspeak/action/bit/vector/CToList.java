@@ -25,6 +25,8 @@ package org.lightjason.agentspeak.action.bit.vector;
 
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CKernel;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -34,8 +36,11 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -44,9 +49,21 @@ import java.util.stream.Stream;
 /**
  * returns the long values of the bit vector as list.
  * The action creates a list with 0 / 1 values of
- * the values of the bit vector
+ * the values of the bit vector, an optional string
+ * argument defines the export type, "list" (default)
+ * creates the list, "view" a read-only list, which
+ * reads the vector lazy, "words" returns the packed
+ * 64-bit words as long array and "indices" the ascending
+ * indices of the set bits as int array, range views and
+ * memory-mapped vectors are copied before the export,
+ * only the read-only list reads them without a copy
  *
- * {@code [L1|L2] = .math/bit/vector/tolist( Vector1, Vector2 );}
+ * {@code
+ * [L1|L2] = .math/bit/vector/tolist( Vector1, Vector2 );
+ * I = .math/bit/vector/tolist( Vector, "indices" );
+ * }
+ *
+ * @see EListType
  */
 public final class CToList extends IBaseAction
 {
@@ -58,6 +75,14 @@ public final class CToList extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CToList.class, "math", "bit", "vector" );
+    /**
+     * value of a true bit
+     */
+    private static final Double TRUE = 1D;
+    /**
+     * value of a false bit
+     */
+    private static final Double FALSE = 0D;
 
     @Nonnull
     @Override
@@ -79,13 +104,97 @@ public final class CToList extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<BitVector>raw )
-               .map( i -> IntStream.range( 0, i.size() ).boxed().map( j -> i.getQuick( j ) ? 1D : 0D ).collect( Collectors.toList() ) )
-               .map( i -> p_parallel ? Collections.synchronizedList( i ) : i )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final EListType l_type = l_arguments.stream()
+                                            .filter( i -> CCommon.isssignableto( i, String.class ) )
+                                            .map( ITerm::<String>raw )
+                                            .filter( EListType::exists )
+                                            .findFirst()
+                                            .map( EListType::of )
+                                            .orElse( EListType.LIST );
+
+        l_arguments.stream()
+                   .map( ITerm::raw )
+                   .filter( CVectorAccessor::isvector )
+                   .map( i -> CToList.export( i, l_type, p_parallel ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * exports a bit vector
+     *
+     * @param p_vector bit vector, range view or mapped vector
+     * @param p_type export type
+     * @param p_parallel parallel execution
+     * @return exported object
+     */
+    @Nonnull
+    private static Object export( @Nonnull final Object p_vector, @Nonnull final EListType p_type, final boolean p_parallel )
+    {
+        if ( p_type == EListType.VIEW )
+            return new CView( p_vector );
+
+        final BitVector l_vector = CVectorAccessor.dense( p_vector );
+        switch ( p_type )
+        {
+            case WORDS:
+                final long[] l_words = Arrays.copyOf( l_vector.elements(), ( l_vector.size() + 63 ) >>> 6 );
+                if ( l_words.length > 0 )
+                    l_words[l_words.length - 1] &= CKernel.tailmask( l_vector.size() );
+                return l_words;
+
+            case INDICES:
+                return CKernel.indices( l_vector.elements(), l_vector.size() );
+
+            default:
+                final List<Double> l_list = IntStream.range( 0, l_vector.size() ).mapToObj( i -> l_vector.getQuick( i ) ? TRUE : FALSE ).collect( Collectors.toList() );
+                return p_parallel ? Collections.synchronizedList( l_list ) : l_list;
+        }
+    }
+
+    /**
+     * read-only list view of a bit vector, range view
+     * or memory-mapped vector, a list stores at most
+     * 2^31 - 1 elements
+     */
+    private static final class CView extends AbstractList<Double> implements RandomAccess
+    {
+        /**
+         * bit vector
+         */
+        private final Object m_vector;
+        /**
+         * number of elements
+         */
+        private final int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_vector bit vector
+         */
+        CView( @Nonnull final Object p_vector )
+        {
+            m_vector = p_vector;
+            m_size = (int) Math.min( Integer.MAX_VALUE, CVectorAccessor.size( p_vector ) );
+        }
+
+        @Override
+        public Double get( final int p_index )
+        {
+            if ( p_index < 0 || p_index >= m_size )
+                throw new IndexOutOfBoundsException( "Index: " + p_index + ", Size: " + m_size );
+
+            return CVectorAccessor.get( m_vector, p_index ) ? TRUE : FALSE;
+        }
+
+        @Override
+        public int size()
+        {
+            return m_size;
+        }
+    }
 }
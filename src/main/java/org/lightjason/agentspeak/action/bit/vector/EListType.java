@@ -0,0 +1,77 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * export types of a bit vector.
+ * The list type creates a list with 0 / 1 values,
+ * the view type a read-only list, which reads the
+ * values lazy from the vector, the words type the
+ * packed 64-bit words and the indices type the
+ * ascending indices of the set bits
+ */
+public enum EListType
+{
+    LIST,
+    VIEW,
+    WORDS,
+    INDICES;
+
+    /**
+     * set with names
+     *
+     * @warning name method cannot replaced by a static call
+     */
+    private static final Set<String> NAMES = Collections.unmodifiableSet( Arrays.stream( EListType.values() ).map( i -> i.name() ).collect( Collectors.toSet() ) );
+
+    /**
+     * additional factory
+     *
+     * @param p_name name as string
+     * @return enum
+     */
+    public static EListType of( @Nonnull final String p_name )
+    {
+        return EListType.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * check method to check if a enum value with a name exists
+     *
+     * @param p_name name as string
+     * @return boolean if enum value exists
+     */
+    public static boolean exists( @Nonnull final String p_name )
+    {
+        return NAMES.contains( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+}
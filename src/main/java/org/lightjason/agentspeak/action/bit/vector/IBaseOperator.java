@@ -25,6 +25,9 @@ package org.lightjason.agentspeak.action.bit.vector;
 
 import cern.colt.matrix.tbit.BitVector;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,11 +37,22 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 
 /**
- * defines an abstract operator for bit vector
+ * defines an abstract operator for bit vector.
+ * The operator is fused over all target vectors, the
+ * words of the source vector are split into blocks and
+ * each block is applied to all targets, before the next
+ * block is read, so the source is read once and blocks
+ * are processed in parallel, memory-mapped vectors and
+ * range views are read and written block-wise, compressed
+ * vectors are changed by their chunks, the operator fails
+ * if two arguments share bits, e.g. a vector and an
+ * overlapping range view, only the same vector can be used
+ * more than once
  */
 public abstract class IBaseOperator extends IBaseAction
 {
@@ -46,6 +60,10 @@ public abstract class IBaseOperator extends IBaseAction
      * serial id
      */
     private static final long serialVersionUID = 8112058782234338444L;
+    /**
+     * number of words within a block (8 KiB)
+     */
+    private static final int BLOCKSIZE = 1024;
 
     @Nonnegative
     @Override
@@ -60,24 +78,94 @@ public abstract class IBaseOperator extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<BitVector> l_arguments = CCommon.flatten( p_argument )
-                                                   .map( ITerm::<BitVector>raw )
-                                                   .collect( Collectors.toList() );
+        final List<Object> l_arguments = CCommon.flatten( p_argument )
+                                                .map( ITerm::raw )
+                                                .collect( Collectors.toList() );
+
+        // blocks are processed in parallel without a lock, so arguments cannot share bits
+        if ( CVectorAccessor.overlaps( l_arguments ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "overlapping" ) );
+
+        final Object l_source = l_arguments.get( 0 );
+        final List<Object> l_targets = l_arguments.stream()
+                                                  .skip( 1 )
+                                                  .peek( i -> CVectorAccessor.checksize( i, l_source ) )
+                                                  .collect( Collectors.toList() );
+
+        // compressed targets are not thread-safe, so they are changed sequentially by
+        // a copy of the source, which is created before the source can be changed as target
+        final List<CCompressedBitVector> l_compressed = l_targets.stream()
+                                                                 .filter( i -> i instanceof CCompressedBitVector )
+                                                                 .map( i -> (CCompressedBitVector) i )
+                                                                 .collect( Collectors.toList() );
+        final CCompressedBitVector l_compressedsource = l_compressed.isEmpty()
+                                                        ? null
+                                                        : l_source instanceof CCompressedBitVector
+                                                          ? ( (CCompressedBitVector) l_source ).copy()
+                                                          : CCompressedBitVector.of( CVectorAccessor.dense( l_source ) );
 
-        l_arguments.stream()
-                   .skip( 1 )
-                   .parallel()
-                   .forEach( i -> this.apply( i, l_arguments.get( 0 ) ) );
+        final List<Object> l_blockwise = l_targets.stream().filter( i -> !( i instanceof CCompressedBitVector ) ).collect( Collectors.toList() );
+        final long l_words = CVectorAccessor.words( l_source );
+        final long l_length = l_blockwise.stream().mapToLong( i -> Math.min( CVectorAccessor.words( i ), l_words ) ).max().orElse( 0 );
+
+        LongStream.range( 0, ( l_length + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                  .parallel()
+                  .forEach( i -> this.block( l_source, l_blockwise, i * BLOCKSIZE, Math.min( l_length, ( i + 1 ) * BLOCKSIZE ) ) );
+
+        l_compressed.forEach( i -> this.apply( i, l_compressedsource ) );
 
         return Stream.empty();
     }
 
+    /**
+     * applies one block of source words to all targets,
+     * the block is copied first, so the source can also
+     * be a target
+     *
+     * @param p_source dense, compressed, view or mapped source vector
+     * @param p_targets dense, view or mapped target vectors
+     * @param p_from first word index (inclusive)
+     * @param p_to last word index (exclusive)
+     */
+    private void block( @Nonnull final Object p_source, @Nonnull final List<Object> p_targets, final long p_from, final long p_to )
+    {
+        final long[] l_block = new long[(int) ( p_to - p_from )];
+        CVectorAccessor.read( p_source, p_from, l_block, l_block.length );
+
+        for ( final Object l_target : p_targets )
+        {
+            final int l_length = (int) ( Math.min( CVectorAccessor.words( l_target ), p_to ) - p_from );
+            if ( l_target instanceof BitVector )
+            {
+                this.apply( ( (BitVector) l_target ).elements(), l_block, (int) p_from, l_length );
+                continue;
+            }
+
+            if ( l_length <= 0 )
+                continue;
+
+            final long[] l_words = new long[l_length];
+            CVectorAccessor.read( l_target, p_from, l_words, l_length );
+            this.apply( l_words, l_block, 0, l_length );
+            CVectorAccessor.write( l_target, p_from, l_words, l_length );
+        }
+    }
+
+    /**
+     * apply method to apply operation on a word block
+     *
+     * @param p_target words of the bit vector which will modifed
+     * @param p_source words of the source block, starts at index zero
+     * @param p_offset word index of the block within the target
+     * @param p_length number of words
+     */
+    protected abstract void apply( @Nonnull final long[] p_target, @Nonnull final long[] p_source, final int p_offset, final int p_length );
 
     /**
-     * apply method to apply operation
+     * apply method to apply operation on a compressed vector
      *
-     * @param p_target bit vector which will modifed
-     * @param p_source source of modification
+     * @param p_target compressed bit vector which will modifed
+     * @param p_source source compressed bit vector, which is not changed
      */
-    protected abstract void apply( @Nonnull final BitVector p_target, @Nonnull final BitVector p_source );
+    protected abstract void apply( @Nonnull final CCompressedBitVector p_target, @Nonnull final CCompressedBitVector p_source );
 }
@@ -0,0 +1,114 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit.vector;
+
+import com.codepoetics.protonpack.StreamUtils;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.bit.CVectorAccessor;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * abstract class for range actions on a bit vector.
+ * The first argument is a bit vector, a compressed vector,
+ * a range view or a memory-mapped vector, all other arguments
+ * are tuples of ranges, the range bounds are inclusive like
+ * on the range action, index starts at zero, the action fails
+ * on wrong input before any range is applied, the ranges are
+ * processed on whole words
+ */
+public abstract class IBaseRange extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8232071412314516028L;
+
+    @Nonnegative
+    @Override
+    public final int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() % 2 == 0 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentsnotodd" ) );
+
+        final Object l_vector = l_arguments.get( 0 ).raw();
+        final long l_size = CVectorAccessor.size( l_vector );
+
+        final List<List<Long>> l_ranges = StreamUtils.windowed(
+            l_arguments.stream()
+                       .skip( 1 )
+                       .map( ITerm::<Number>raw )
+                       .mapToLong( Number::longValue )
+                       .boxed(),
+            2,
+            2
+        ).collect( Collectors.toList() );
+
+        // all ranges are checked before the first one is applied, so wrong input does not change the vector
+        final Optional<List<Long>> l_wrong = l_ranges.stream()
+                                                     .filter( i -> i.get( 0 ) < 0 || i.get( 0 ) > i.get( 1 ) + 1 || i.get( 1 ) >= l_size )
+                                                     .findFirst();
+        if ( l_wrong.isPresent() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "indexoutofrange", l_wrong.get().get( 0 ), l_wrong.get().get( 1 ), l_size )
+            );
+
+        l_ranges.forEach( i -> this.apply( l_vector, i.get( 0 ), i.get( 1 ) + 1, p_return ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * applies the range
+     *
+     * @param p_vector bit vector
+     * @param p_from first bit index (inclusive)
+     * @param p_to last bit index (exclusive)
+     * @param p_return return arguments
+     */
+    protected abstract void apply( @Nonnull final Object p_vector, @Nonnegative final long p_from, @Nonnegative final long p_to,
+                                   @Nonnull final List<ITerm> p_return );
+}
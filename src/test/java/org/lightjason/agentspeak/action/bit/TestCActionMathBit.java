@@ -23,10 +23,13 @@
 
 package org.lightjason.agentspeak.action.bit;
 
+import cern.colt.matrix.tbit.BitVector;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.util.stream.IntStream;
+
 
 /**
  * test bit generic calls
@@ -55,4 +58,44 @@ public final class TestCActionMathBit extends IBaseTest
         Assertions.assertTrue( EBlasType.exists( "dense" ) );
     }
 
+    /**
+     * test blas type by density
+     */
+    @Test
+    public void blastypedensity()
+    {
+        Assertions.assertEquals( EBlasType.SPARSE, EBlasType.of( 1000, 10, EBlasType.DENSE ) );
+        Assertions.assertEquals( EBlasType.DENSE, EBlasType.of( 1000, 500, EBlasType.SPARSE ) );
+        Assertions.assertEquals( EBlasType.DENSE, EBlasType.of( 1000, 100, EBlasType.DENSE ) );
+        Assertions.assertEquals( EBlasType.SPARSE, EBlasType.of( 1000, 100, EBlasType.SPARSE ) );
+    }
+
+    /**
+     * test tail mask
+     */
+    @Test
+    public void tailmask()
+    {
+        Assertions.assertEquals( -1L, CKernel.tailmask( 128 ) );
+        Assertions.assertEquals( 7L, CKernel.tailmask( 67 ) );
+    }
+
+    /**
+     * test hamming distance kernel
+     */
+    @Test
+    public void hammingdistance()
+    {
+        final BitVector l_vector1 = new BitVector( 1000 );
+        final BitVector l_vector2 = new BitVector( 1000 );
+        IntStream.range( 0, l_vector1.size() ).filter( i -> i % 3 == 0 ).forEach( l_vector1::set );
+        IntStream.range( 0, l_vector2.size() ).filter( i -> i % 5 == 0 ).forEach( l_vector2::set );
+
+        final BitVector l_xor = l_vector1.copy();
+        l_xor.xor( l_vector2 );
+
+        Assertions.assertEquals( l_xor.cardinality(), CKernel.hammingdistance( l_vector1, l_vector2 ) );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> CKernel.hammingdistance( l_vector1, new BitVector( 10 ) ) );
+    }
+
 }
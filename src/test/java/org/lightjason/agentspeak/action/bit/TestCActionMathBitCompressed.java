@@ -0,0 +1,229 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitVector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.action.bit.compressed.CAnd;
+import org.lightjason.agentspeak.action.bit.compressed.CClear;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
+import org.lightjason.agentspeak.action.bit.compressed.CCreate;
+import org.lightjason.agentspeak.action.bit.compressed.CHammingDistance;
+import org.lightjason.agentspeak.action.bit.compressed.CNot;
+import org.lightjason.agentspeak.action.bit.compressed.COr;
+import org.lightjason.agentspeak.action.bit.compressed.CSet;
+import org.lightjason.agentspeak.action.bit.compressed.CTrueCount;
+import org.lightjason.agentspeak.action.bit.compressed.CXor;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test compressed bit vector actions
+ */
+public final class TestCActionMathBitCompressed extends IBaseTest
+{
+    /**
+     * size of the test vectors, the
+     * last container is not complete
+     */
+    private static final int SIZE = 5 * 65536 + 1000;
+
+    /**
+     * creates a dense bit vector with a sparse,
+     * a dense and a run chunk
+     *
+     * @param p_seed random seed
+     * @return bit vector
+     */
+    private static BitVector random( final int p_seed )
+    {
+        final Random l_random = new Random( p_seed );
+        final BitVector l_vector = new BitVector( SIZE );
+
+        IntStream.range( 0, 100 ).map( i -> l_random.nextInt( 65536 ) ).forEach( l_vector::set );
+        IntStream.range( 65536, 2 * 65536 ).filter( i -> l_random.nextBoolean() ).forEach( l_vector::set );
+        l_vector.replaceFromToWith( 3 * 65536 + l_random.nextInt( 1000 ), 4 * 65536 + l_random.nextInt( 1000 ), true );
+        IntStream.range( 5 * 65536, SIZE ).filter( i -> l_random.nextInt( 7 ) == 0 ).forEach( l_vector::set );
+
+        return l_vector;
+    }
+
+    /**
+     * test create with size and conversion
+     */
+    @Test
+    public void create()
+    {
+        final BitVector l_dense = random( 1 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 10000000, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 10000000, l_return.get( 0 ).<CCompressedBitVector>raw().size() );
+        Assertions.assertEquals( 0, l_return.get( 0 ).<CCompressedBitVector>raw().cardinality() );
+        Assertions.assertEquals( l_dense, l_return.get( 1 ).<CCompressedBitVector>raw().toBitVector() );
+        Assertions.assertEquals( l_dense.cardinality(), l_return.get( 1 ).<CCompressedBitVector>raw().cardinality() );
+    }
+
+    /**
+     * test set and clear
+     */
+    @Test
+    public void setclear()
+    {
+        final CCompressedBitVector l_vector = new CCompressedBitVector( 10000000 );
+
+        new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, true, 1, 65536, 9999999, 5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CClear().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, 5, 7 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 3, l_vector.cardinality() );
+        Assertions.assertTrue( l_vector.get( 1 ) );
+        Assertions.assertTrue( l_vector.get( 65536 ) );
+        Assertions.assertTrue( l_vector.get( 9999999 ) );
+        Assertions.assertFalse( l_vector.get( 5 ) );
+    }
+
+    /**
+     * test logical operators against dense vectors
+     */
+    @Test
+    public void operators()
+    {
+        final BitVector l_source = random( 2 );
+        final BitVector l_and = random( 3 );
+        final BitVector l_or = random( 4 );
+        final BitVector l_xor = random( 5 );
+        final BitVector l_not = random( 6 );
+
+        final CCompressedBitVector l_compressedand = CCompressedBitVector.of( l_and );
+        final CCompressedBitVector l_compressedor = CCompressedBitVector.of( l_or );
+        final CCompressedBitVector l_compressedxor = CCompressedBitVector.of( l_xor );
+        final CCompressedBitVector l_compressednot = CCompressedBitVector.of( l_not );
+
+        new CAnd().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_source, l_compressedand ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new COr().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( CCompressedBitVector.of( l_source ), l_compressedor ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CXor().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_source, l_compressedxor ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CNot().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_compressednot ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        l_and.and( l_source );
+        l_or.or( l_source );
+        l_xor.xor( l_source );
+        l_not.not();
+
+        Assertions.assertEquals( l_and, l_compressedand.toBitVector() );
+        Assertions.assertEquals( l_or, l_compressedor.toBitVector() );
+        Assertions.assertEquals( l_xor, l_compressedxor.toBitVector() );
+        Assertions.assertEquals( l_not, l_compressednot.toBitVector() );
+        Assertions.assertEquals( SIZE - random( 6 ).cardinality(), l_compressednot.cardinality() );
+    }
+
+    /**
+     * test true count and hamming distance
+     */
+    @Test
+    public void truecounthammingdistance()
+    {
+        final BitVector l_first = random( 7 );
+        final BitVector l_second = random( 8 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CTrueCount().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( CCompressedBitVector.of( l_first ), l_second ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CHammingDistance().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( CCompressedBitVector.of( l_first ), l_second, l_first ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( (double) l_first.cardinality(), l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( (double) l_second.cardinality(), l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( (double) CKernel.hammingdistance( l_second, l_first ), l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( 0D, l_return.get( 3 ).<Number>raw() );
+    }
+
+    /**
+     * test hamming distance error
+     */
+    @Test
+    public void hammingdistanceerror()
+    {
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CHammingDistance().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( new CCompressedBitVector( 5 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.action.bit.index.CBKTree;
+import org.lightjason.agentspeak.action.bit.index.CInsert;
+import org.lightjason.agentspeak.action.bit.index.CMultiIndex;
+import org.lightjason.agentspeak.action.bit.index.CQuery;
+import org.lightjason.agentspeak.action.bit.index.CRank;
+import org.lightjason.agentspeak.action.bit.index.CRankSelect;
+import org.lightjason.agentspeak.action.bit.index.CRankSelectIndex;
+import org.lightjason.agentspeak.action.bit.index.CRemove;
+import org.lightjason.agentspeak.action.bit.index.CSelect;
+import org.lightjason.agentspeak.action.bit.index.CSize;
+import org.lightjason.agentspeak.action.bit.index.IIndex;
+import org.lightjason.agentspeak.action.bit.matrix.CReachable;
+import org.lightjason.agentspeak.action.bit.vector.CCreate;
+import org.lightjason.agentspeak.action.bit.vector.COr;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test bit index actions
+ */
+public final class TestCActionMathBitIndex extends IBaseTest
+{
+    /**
+     * creates random bit vectors
+     *
+     * @param p_count number of vectors
+     * @param p_size size of each vector
+     * @return list of vectors
+     */
+    private static List<BitVector> random( final int p_count, final int p_size )
+    {
+        final Random l_random = new Random( p_count );
+        return IntStream.range( 0, p_count )
+                        .mapToObj( i ->
+                        {
+                            final BitVector l_vector = new BitVector( p_size );
+                            IntStream.range( 0, p_size ).filter( j -> l_random.nextBoolean() ).forEach( l_vector::set );
+                            return l_vector;
+                        } )
+                        .collect( Collectors.toList() );
+    }
+
+    /**
+     * brute-force range query
+     *
+     * @param p_vectors vectors
+     * @param p_query query
+     * @param p_radius radius
+     * @return number of vectors within the radius
+     */
+    private static long bruteforce( @Nonnull final List<BitVector> p_vectors, @Nonnull final BitVector p_query, final int p_radius )
+    {
+        return p_vectors.stream().filter( i -> CKernel.hammingdistance( i, p_query ) <= p_radius ).count();
+    }
+
+    /**
+     * test multi-index hashing query
+     */
+    @Test
+    public void multiindex()
+    {
+        final List<BitVector> l_vectors = random( 500, 128 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultiIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 128, 4, l_vectors ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        final IIndex l_index = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 500, l_index.size() );
+
+        final BitVector l_query = l_vectors.get( 7 ).copy();
+        l_query.not();
+        l_query.putQuick( 0, !l_query.getQuick( 0 ) );
+        IntStream.of( 0, 3, 9, 62, 70 )
+                 .forEach( i -> Assertions.assertEquals( bruteforce( l_vectors, l_vectors.get( 7 ), i ), l_index.query( l_vectors.get( 7 ), i ).size() ) );
+        Assertions.assertEquals( bruteforce( l_vectors, l_query, 127 ), l_index.query( l_query, 127 ).size() );
+    }
+
+    /**
+     * test multi-index hashing error
+     */
+    @Test
+    public void multiindexerror()
+    {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new CMultiIndex().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( 256, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
+    /**
+     * test Burkhard-Keller tree query with
+     * duplicates and different vector size
+     */
+    @Test
+    public void bktree()
+    {
+        final List<BitVector> l_vectors = random( 1500, 96 );
+        l_vectors.addAll( l_vectors.subList( 0, 10 ) );
+        l_vectors.addAll( random( 20, 80 ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CBKTree().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vectors ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        final IIndex l_index = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 1530, l_index.size() );
+
+        final BitVector l_query = l_vectors.get( 3 ).copy();
+        l_query.putQuick( 5, !l_query.getQuick( 5 ) );
+        IntStream.of( 0, 1, 10, 40, 96 )
+                 .forEach( i -> Assertions.assertEquals(
+                     l_vectors.stream().filter( j -> CKernel.hammingmetric( j, l_query ) <= i ).count(),
+                     l_index.query( l_query, i ).size()
+                 ) );
+
+        l_index.query( l_vectors.get( 3 ), 96 ).forEach( BitVector::not );
+        Assertions.assertEquals( 2, l_index.query( l_vectors.get( 3 ), 0 ).size() );
+        Assertions.assertTrue( l_index.remove( l_vectors.get( 3 ) ) );
+        Assertions.assertTrue( l_index.remove( l_vectors.get( 3 ) ) );
+        Assertions.assertFalse( l_index.remove( l_vectors.get( 3 ) ) );
+        Assertions.assertTrue( l_index.query( l_vectors.get( 3 ), 0 ).isEmpty() );
+
+        l_index.insert( l_query );
+        Assertions.assertEquals( 1529, l_index.size() );
+        Assertions.assertEquals( Collections.singletonList( l_query ), l_index.query( l_query, 0 ) );
+    }
+
+    /**
+     * test insert, remove, query and size
+     */
+    @Test
+    public void insertremove()
+    {
+        final List<BitVector> l_vectors = random( 3, 16 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultiIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 16, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        final IIndex l_index = l_return.get( 0 ).raw();
+
+        new CInsert().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_index, l_vectors ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CRemove().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_index, l_vectors.get( 1 ), l_vectors.get( 1 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CQuery().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_index, 0, l_vectors.get( 1 ), l_vectors.get( 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CSize().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_index ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertTrue( l_return.get( 1 ).<Boolean>raw() );
+        Assertions.assertFalse( l_return.get( 2 ).<Boolean>raw() );
+        Assertions.assertTrue( l_return.get( 3 ).<List<?>>raw().isEmpty() );
+        Assertions.assertEquals( Collections.singletonList( l_vectors.get( 2 ) ), l_return.get( 4 ).<List<?>>raw() );
+        Assertions.assertEquals( 2D, l_return.get( 5 ).<Number>raw() );
+
+        final BitVector l_result = l_return.get( 4 ).<List<BitVector>>raw().get( 0 );
+        l_result.not();
+        Assertions.assertEquals( Collections.singletonList( l_vectors.get( 2 ) ), l_index.query( l_vectors.get( 2 ), 0 ) );
+        Assertions.assertTrue( l_index.remove( l_vectors.get( 2 ) ) );
+    }
+
+    /**
+     * test compressed vectors and views, which are
+     * changed by an operator, as input of the
+     * indices and of the reachability
+     */
+    @Test
+    public void compressedinput()
+    {
+        final List<BitVector> l_vectors = random( 2, 16 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 16, 6, "sparse" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        final Object l_compressed = l_return.get( 0 ).raw();
+        final Object l_sources = l_return.get( 1 ).raw();
+        final BitVector l_first = new BitVector( 6 );
+        l_first.putQuick( 0, true );
+
+        new COr().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vectors.get( 0 ), l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new COr().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_first, l_sources ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        l_return.clear();
+        new CMultiIndex().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 16, 2, l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CBKTree().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_compressed, new CBitVectorView( l_vectors.get( 1 ), 0, 15 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CQuery().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 0 ).raw(), 0, l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.get( 1 ).<IIndex>raw().size() );
+        Assertions.assertEquals( Collections.singletonList( l_vectors.get( 0 ) ), l_return.get( 2 ).<List<?>>raw() );
+
+        // chain 0 -> 1 -> 2 -> 3 and 4, 5 isolated
+        final BitMatrix l_matrix = new BitMatrix( 6, 6 );
+        l_matrix.putQuick( 1, 0, true );
+        l_matrix.putQuick( 2, 1, true );
+        l_matrix.putQuick( 3, 2, true );
+
+        l_return.clear();
+        new CReachable().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, l_sources ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        Assertions.assertEquals( "{0, 1, 2, 3}", l_return.get( 0 ).raw().toString() );
+    }
+
+    /**
+     * test rank / select index
+     */
+    @Test
+    public void rankselect()
+    {
+        final Random l_random = new Random( 71 );
+        IntStream.of( 0, 1, 63, 64, 511, 512, 1000, 5000, 600000 ).forEach( n ->
+        {
+            final int l_density = 1 + l_random.nextInt( 100 );
+            final BitVector l_vector = new BitVector( n );
+            IntStream.range( 0, n ).filter( i -> l_random.nextInt( 100 ) < l_density ).forEach( l_vector::set );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            new CRankSelect().execute( false, IContext.EMPTYPLAN, Stream.of( l_vector ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+            final CRankSelectIndex l_index = l_return.get( 0 ).raw();
+
+            Assertions.assertEquals( l_vector.cardinality(), l_index.cardinality() );
+            int l_rank = 0;
+            for ( int i = 0; i < n; i++ )
+            {
+                Assertions.assertEquals( l_rank, l_index.rank( i ) );
+                if ( l_vector.getQuick( i ) )
+                    Assertions.assertEquals( i, l_index.select( l_rank++ ) );
+            }
+            Assertions.assertEquals( l_rank, l_index.rank( n ) );
+
+            Assertions.assertThrows( IndexOutOfBoundsException.class, () -> l_index.rank( n + 1 ) );
+            Assertions.assertThrows( IndexOutOfBoundsException.class, () -> l_index.select( l_index.cardinality() ) );
+        } );
+
+        final BitVector l_vector = new BitVector( 200 );
+        IntStream.of( 3, 64, 150 ).forEach( l_vector::set );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRankSelect().execute( false, IContext.EMPTYPLAN, Stream.of( l_vector ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CRank().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 0 ).<Object>raw(), 3, Stream.of( 4, 200 ).collect( Collectors.toList() ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CSelect().execute( false, IContext.EMPTYPLAN, Stream.of( l_return.get( 0 ).<Object>raw(), 0, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertEquals( 0D, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( 1D, l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( 3D, l_return.get( 3 ).<Number>raw() );
+        Assertions.assertEquals( 3D, l_return.get( 4 ).<Number>raw() );
+        Assertions.assertEquals( 150D, l_return.get( 5 ).<Number>raw() );
+
+        l_vector.clear( 3 );
+        l_vector.set( 10 );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<CRankSelectIndex>raw().cardinality() );
+        Assertions.assertEquals( 1, l_return.get( 0 ).<CRankSelectIndex>raw().rank( 10 ) );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<CRankSelectIndex>raw().select( 0 ) );
+    }
+
+}
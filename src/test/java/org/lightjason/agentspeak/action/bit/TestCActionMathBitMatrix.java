@@ -25,7 +25,10 @@ package org.lightjason.agentspeak.action.bit;
 
 import cern.colt.matrix.tbit.BitMatrix;
 import cern.colt.matrix.tbit.BitVector;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -34,24 +37,38 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.action.bit.matrix.CAnd;
 import org.lightjason.agentspeak.action.bit.matrix.CBoolValue;
+import org.lightjason.agentspeak.action.bit.matrix.CCells;
+import org.lightjason.agentspeak.action.bit.matrix.CClosure;
 import org.lightjason.agentspeak.action.bit.matrix.CColumn;
+import org.lightjason.agentspeak.action.bit.matrix.CColumnCount;
 import org.lightjason.agentspeak.action.bit.matrix.CColumns;
 import org.lightjason.agentspeak.action.bit.matrix.CCopy;
 import org.lightjason.agentspeak.action.bit.matrix.CCreate;
 import org.lightjason.agentspeak.action.bit.matrix.CDimension;
 import org.lightjason.agentspeak.action.bit.matrix.CFalseCount;
+import org.lightjason.agentspeak.action.bit.matrix.CFromBlas;
 import org.lightjason.agentspeak.action.bit.matrix.CHammingDistance;
+import org.lightjason.agentspeak.action.bit.matrix.CIndices;
+import org.lightjason.agentspeak.action.bit.matrix.CLambdaCellStreaming;
+import org.lightjason.agentspeak.action.bit.matrix.CLambdaIndexStreaming;
 import org.lightjason.agentspeak.action.bit.matrix.CLambdaStreaming;
+import org.lightjason.agentspeak.action.bit.matrix.CMultiply;
 import org.lightjason.agentspeak.action.bit.matrix.CNAnd;
 import org.lightjason.agentspeak.action.bit.matrix.CNot;
+import org.lightjason.agentspeak.action.bit.matrix.CNullspace;
 import org.lightjason.agentspeak.action.bit.matrix.CNumericValue;
 import org.lightjason.agentspeak.action.bit.matrix.COr;
+import org.lightjason.agentspeak.action.bit.matrix.CRank;
+import org.lightjason.agentspeak.action.bit.matrix.CReachable;
 import org.lightjason.agentspeak.action.bit.matrix.CRow;
+import org.lightjason.agentspeak.action.bit.matrix.CRowCount;
 import org.lightjason.agentspeak.action.bit.matrix.CRows;
 import org.lightjason.agentspeak.action.bit.matrix.CSet;
 import org.lightjason.agentspeak.action.bit.matrix.CSize;
+import org.lightjason.agentspeak.action.bit.matrix.CSolve;
 import org.lightjason.agentspeak.action.bit.matrix.CToBlas;
 import org.lightjason.agentspeak.action.bit.matrix.CToVector;
+import org.lightjason.agentspeak.action.bit.matrix.CTranspose;
 import org.lightjason.agentspeak.action.bit.matrix.CTrueCount;
 import org.lightjason.agentspeak.action.bit.matrix.CXor;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
@@ -65,8 +82,10 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -91,6 +110,21 @@ public final class TestCActionMathBitMatrix extends IBaseTest
         return l_matrix;
     }
 
+    /**
+     * product of a matrix and a vector over gf2
+     *
+     * @param p_matrix matrix
+     * @param p_vector vector
+     * @return product vector
+     */
+    private static BitVector multiply( @Nonnull final BitMatrix p_matrix, @Nonnull final BitVector p_vector )
+    {
+        final BitVector l_result = new BitVector( p_matrix.rows() );
+        IntStream.range( 0, p_matrix.rows() )
+                 .forEach( r -> l_result.putQuick( r, IntStream.range( 0, p_matrix.columns() ).filter( c -> p_matrix.getQuick( c, r ) && p_vector.getQuick( c ) ).count() % 2 == 1 ) );
+        return l_result;
+    }
+
     /**
      * data provider generator
      * @return data
@@ -300,6 +334,70 @@ public final class TestCActionMathBitMatrix extends IBaseTest
         Assertions.assertFalse( l_bitvector.get( 1 ) );
     }
 
+    /**
+     * test row and column extraction on matrices,
+     * which are not aligned to the word size
+     */
+    @Test
+    public void rowcolumnunaligned()
+    {
+        final Random l_random = new Random( 17 );
+        final BitMatrix l_matrix = new BitMatrix( 150, 131 );
+        IntStream.range( 0, l_matrix.size() ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_matrix.putQuick( i % 150, i / 150, true ) );
+
+        final List<ITerm> l_rows = new ArrayList<>();
+        final List<ITerm> l_columns = new ArrayList<>();
+
+        IntStream.range( 0, l_matrix.rows() ).forEach( i -> new CRow().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( i, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_rows
+        ) );
+
+        IntStream.range( 0, l_matrix.columns() ).forEach( i -> new CColumn().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( i, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_columns
+        ) );
+
+        for ( int r = 0; r < l_matrix.rows(); r++ )
+            for ( int c = 0; c < l_matrix.columns(); c++ )
+            {
+                Assertions.assertEquals( l_matrix.getQuick( c, r ), l_rows.get( r ).<BitVector>raw().getQuick( c ) );
+                Assertions.assertEquals( l_matrix.getQuick( c, r ), l_columns.get( c ).<BitVector>raw().getQuick( r ) );
+            }
+
+        Assertions.assertTrue( l_rows.stream().allMatch( i -> ( i.<BitVector>raw().elements()[2] & ~CKernel.tailmask( 150 ) ) == 0 ) );
+        Assertions.assertTrue( l_columns.stream().allMatch( i -> ( i.<BitVector>raw().elements()[2] & ~CKernel.tailmask( 131 ) ) == 0 ) );
+    }
+
+    /**
+     * test row and column with wrong index
+     */
+    @Test
+    public void rowcolumnindexerror()
+    {
+        final BitMatrix l_matrix = new BitMatrix( 3, 2 );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CRow().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( 2, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CColumn().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( -1, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                new ArrayList<>()
+            )
+        );
+    }
+
     /**
      * test numericvalue
      */
@@ -400,6 +498,75 @@ public final class TestCActionMathBitMatrix extends IBaseTest
         Assertions.assertArrayEquals( new double[][]{{0.0, 1.0}, {1.0, 1.0}}, l_return.get( 1 ).<DoubleMatrix2D>raw().toArray() );
     }
 
+    /**
+     * test toblas on non-square matrices
+     * and parallel conversion
+     */
+    @Test
+    public void toblasnonsquare()
+    {
+        final Random l_random = new Random( 47 );
+        final BitMatrix l_matrix = new BitMatrix( 300, 250 );
+        IntStream.range( 0, l_matrix.size() ).filter( i -> l_random.nextInt( 10 ) == 0 ).forEach( i -> l_matrix.putQuick( i % 300, i / 300, true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToBlas().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, "dense" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CToBlas().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, new BitMatrix( 3, 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertEquals( 250, l_return.get( 0 ).<DoubleMatrix2D>raw().rows() );
+        Assertions.assertEquals( 300, l_return.get( 1 ).<DoubleMatrix2D>raw().columns() );
+        Assertions.assertEquals( 0, l_return.get( 2 ).<DoubleMatrix2D>raw().cardinality() );
+
+        for ( int r = 0; r < 250; r++ )
+            for ( int c = 0; c < 300; c++ )
+            {
+                Assertions.assertEquals( l_matrix.getQuick( c, r ) ? 1.0 : 0.0, l_return.get( 0 ).<DoubleMatrix2D>raw().getQuick( r, c ) );
+                Assertions.assertEquals( l_matrix.getQuick( c, r ) ? 1.0 : 0.0, l_return.get( 1 ).<DoubleMatrix2D>raw().getQuick( r, c ) );
+            }
+    }
+
+    /**
+     * test fromblas
+     */
+    @Test
+    public void fromblas()
+    {
+        final Random l_random = new Random( 53 );
+        final DenseDoubleMatrix2D l_dense = new DenseDoubleMatrix2D( 300, 250 );
+        l_dense.assign( i -> l_random.nextDouble() );
+        final SparseDoubleMatrix2D l_sparse = new SparseDoubleMatrix2D( 3, 4 );
+        l_sparse.setQuick( 2, 1, 5 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CFromBlas().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 0.5, l_dense, l_sparse ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final BitMatrix l_matrix = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 250, l_matrix.columns() );
+        Assertions.assertEquals( 300, l_matrix.rows() );
+        for ( int r = 0; r < 300; r++ )
+            for ( int c = 0; c < 250; c++ )
+                Assertions.assertEquals( l_dense.getQuick( r, c ) > 0.5, l_matrix.getQuick( c, r ) );
+
+        Assertions.assertEquals( 1, l_return.get( 1 ).<BitMatrix>raw().cardinality() );
+        Assertions.assertTrue( l_return.get( 1 ).<BitMatrix>raw().getQuick( 1, 2 ) );
+    }
+
     /**
      * test lambda streaming assignable
      */
@@ -407,6 +574,8 @@ public final class TestCActionMathBitMatrix extends IBaseTest
     public void lambdaassignable()
     {
         Assertions.assertTrue( new CLambdaStreaming().assignable().collect( Collectors.toSet() ).contains( BitMatrix.class ) );
+        Assertions.assertFalse( new CLambdaIndexStreaming().assignable().collect( Collectors.toSet() ).contains( BitMatrix.class ) );
+        Assertions.assertFalse( new CLambdaCellStreaming().assignable().collect( Collectors.toSet() ).contains( BitMatrix.class ) );
     }
 
     /**
@@ -422,6 +591,46 @@ public final class TestCActionMathBitMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test lambda streaming of set bits
+     */
+    @Test
+    public void lambdasetbits()
+    {
+        final BitMatrix l_matrix = new BitMatrix( 3000, 1000 );
+        l_matrix.putQuick( 2999, 0, true );
+        l_matrix.putQuick( 17, 500, true );
+        l_matrix.putQuick( 0, 999, true );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CIndices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CCells().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of( 2999, 500 * 3000 + 17, 999 * 3000 ).toArray(),
+            new CLambdaIndexStreaming().apply( l_return.get( 0 ).raw() ).toArray()
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( Arrays.asList( 0, 2999 ), Arrays.asList( 500, 17 ), Arrays.asList( 999, 0 ) ).toArray(),
+            new CLambdaCellStreaming().apply( l_return.get( 1 ).raw() ).toArray()
+        );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CCells().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new BitVector( 5 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
     /**
      * test hamming distance
      */
@@ -438,6 +647,325 @@ public final class TestCActionMathBitMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test transpose
+     */
+    @Test
+    public void transpose()
+    {
+        final Random l_random = new Random( 23 );
+        final BitMatrix l_matrix = new BitMatrix( 200, 75 );
+        IntStream.range( 0, l_matrix.size() ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_matrix.putQuick( i % 200, i / 200, true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CTranspose().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, initialize( 2, 2, false, true, false, false ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final BitMatrix l_transpose = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 75, l_transpose.columns() );
+        Assertions.assertEquals( 200, l_transpose.rows() );
+        Assertions.assertEquals( l_matrix.cardinality(), l_transpose.cardinality() );
+
+        for ( int r = 0; r < l_matrix.rows(); r++ )
+            for ( int c = 0; c < l_matrix.columns(); c++ )
+                Assertions.assertEquals( l_matrix.getQuick( c, r ), l_transpose.getQuick( r, c ) );
+
+        Assertions.assertTrue( l_return.get( 1 ).<BitMatrix>raw().getQuick( 0, 1 ) );
+        Assertions.assertFalse( l_return.get( 1 ).<BitMatrix>raw().getQuick( 1, 0 ) );
+    }
+
+    /**
+     * test multiply with boolean and gf2 semiring
+     */
+    @Test
+    public void multiply()
+    {
+        final Random l_random = new Random( 31 );
+        final BitMatrix l_left = new BitMatrix( 70, 600 );
+        final BitMatrix l_right = new BitMatrix( 130, 70 );
+        IntStream.range( 0, l_left.size() ).filter( i -> l_random.nextInt( 8 ) == 0 ).forEach( i -> l_left.putQuick( i % 70, i / 70, true ) );
+        IntStream.range( 0, l_right.size() ).filter( i -> l_random.nextInt( 8 ) == 0 ).forEach( i -> l_right.putQuick( i % 130, i / 130, true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_left, l_right ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "gf2", l_left, l_right ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 130, l_return.get( 0 ).<BitMatrix>raw().columns() );
+        Assertions.assertEquals( 600, l_return.get( 0 ).<BitMatrix>raw().rows() );
+
+        for ( int r = 0; r < 600; r++ )
+            for ( int c = 0; c < 130; c++ )
+            {
+                int l_count = 0;
+                for ( int k = 0; k < 70; k++ )
+                    if ( l_left.getQuick( k, r ) && l_right.getQuick( c, k ) )
+                        l_count++;
+
+                Assertions.assertEquals( l_count > 0, l_return.get( 0 ).<BitMatrix>raw().getQuick( c, r ) );
+                Assertions.assertEquals( l_count % 2 == 1, l_return.get( 1 ).<BitMatrix>raw().getQuick( c, r ) );
+            }
+    }
+
+    /**
+     * test multiply chain and errors
+     */
+    @Test
+    public void multiplychain()
+    {
+        final BitMatrix l_matrix = initialize( 2, 2, false, true, true, false );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "boolean", l_matrix, l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( l_matrix, l_return.get( 0 ).raw() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "gf2", l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, new BitMatrix( 2, 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "gf3", l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test transitive closure
+     */
+    @Test
+    public void closure()
+    {
+        final Random l_random = new Random( 37 );
+        final int l_size = 300;
+        final BitMatrix l_matrix = new BitMatrix( l_size, l_size );
+        IntStream.range( 0, l_size * 2 ).forEach( i -> l_matrix.putQuick( l_random.nextInt( l_size ), l_random.nextInt( l_size ), true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CClosure().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final boolean[][] l_expected = new boolean[l_size][l_size];
+        IntStream.range( 0, l_size ).forEach( i -> IntStream.range( 0, l_size ).forEach( j -> l_expected[i][j] = l_matrix.getQuick( j, i ) ) );
+        for ( int k = 0; k < l_size; k++ )
+            for ( int i = 0; i < l_size; i++ )
+                for ( int j = 0; j < l_size; j++ )
+                    l_expected[i][j] |= l_expected[i][k] && l_expected[k][j];
+
+        Assertions.assertEquals( 1, l_return.size() );
+        for ( int i = 0; i < l_size; i++ )
+            for ( int j = 0; j < l_size; j++ )
+                Assertions.assertEquals( l_expected[i][j], l_return.get( 0 ).<BitMatrix>raw().getQuick( j, i ) );
+
+        new CClosure().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        Assertions.assertEquals( l_return.get( 0 ).<BitMatrix>raw(), l_return.get( 1 ).<BitMatrix>raw() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CClosure().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new BitMatrix( 2, 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test reachable
+     */
+    @Test
+    public void reachable()
+    {
+        // chain 0 -> 1 -> 2 -> 3, 4 -> 0 and 5 isolated
+        final BitMatrix l_matrix = new BitMatrix( 6, 6 );
+        l_matrix.putQuick( 1, 0, true );
+        l_matrix.putQuick( 2, 1, true );
+        l_matrix.putQuick( 3, 2, true );
+        l_matrix.putQuick( 0, 4, true );
+
+        final BitVector l_sources = new BitVector( 6 );
+        l_sources.putQuick( 0, true );
+
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CReachable().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, l_sources ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CReachable().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, l_sources, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( "{0, 1, 2, 3}", l_return.get( 0 ).raw().toString() );
+        Assertions.assertEquals( "{0, 1}", l_return.get( 1 ).raw().toString() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CReachable().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, new BitVector( 5 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test rank, nullspace and solve over gf2
+     */
+    @Test
+    public void gaussianelimination()
+    {
+        final Random l_random = new Random( 41 );
+        final BitMatrix l_matrix = new BitMatrix( 150, 100 );
+        IntStream.range( 0, 150 * 50 ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_matrix.putQuick( i % 150, i / 150, true ) );
+        IntStream.range( 50, 100 ).forEach( r ->
+        {
+            final int l_first = l_random.nextInt( 50 );
+            final int l_second = l_random.nextInt( 50 );
+            IntStream.range( 0, 150 ).forEach( c -> l_matrix.putQuick( c, r, l_matrix.getQuick( c, l_first ) ^ l_matrix.getQuick( c, l_second ) ) );
+        } );
+
+        final BitVector l_solution = new BitVector( 150 );
+        IntStream.range( 0, 150 ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_solution.putQuick( i, true ) );
+        final BitVector l_vector = TestCActionMathBitMatrix.multiply( l_matrix, l_solution );
+
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRank().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, initialize( 2, 2, true, true, true, true ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CNullspace().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, l_vector ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 1.0, l_return.get( 1 ).<Number>raw() );
+
+        final int l_rank = l_return.get( 0 ).<Number>raw().intValue();
+        final BitMatrix l_nullspace = l_return.get( 2 ).raw();
+        Assertions.assertTrue( l_rank <= 50 );
+        Assertions.assertEquals( 150 - l_rank, l_nullspace.rows() );
+        Assertions.assertEquals( 150, l_nullspace.columns() );
+
+        IntStream.range( 0, l_nullspace.rows() ).forEach( i ->
+        {
+            final BitVector l_basis = new BitVector( 150 );
+            IntStream.range( 0, 150 ).forEach( j -> l_basis.putQuick( j, l_nullspace.getQuick( j, i ) ) );
+            Assertions.assertEquals( 0, TestCActionMathBitMatrix.multiply( l_matrix, l_basis ).cardinality() );
+        } );
+
+        final List<ITerm> l_nullrank = new ArrayList<>();
+        new CRank().execute( false, IContext.EMPTYPLAN, Stream.of( l_nullspace ).map( CRawTerm::of ).collect( Collectors.toList() ), l_nullrank );
+        Assertions.assertEquals( l_nullspace.rows(), l_nullrank.get( 0 ).<Number>raw().intValue() );
+
+        Assertions.assertEquals( l_vector, TestCActionMathBitMatrix.multiply( l_matrix, l_return.get( 3 ).raw() ) );
+    }
+
+    /**
+     * test solve errors
+     */
+    @Test
+    public void solveerror()
+    {
+        final BitVector l_vector = new BitVector( 2 );
+        l_vector.putQuick( 0, true );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( initialize( 2, 2, true, false, true, false ), l_vector ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( initialize( 2, 2, true, false, true, false ), new BitVector( 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test row and column count
+     */
+    @Test
+    public void rowcolumncount()
+    {
+        final Random l_random = new Random( 43 );
+        final BitMatrix l_matrix = new BitMatrix( 140, 90 );
+        IntStream.range( 0, l_matrix.size() ).filter( i -> l_random.nextInt( 3 ) > 0 ).forEach( i -> l_matrix.putQuick( i % 140, i / 140, true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRowCount().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CColumnCount().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final DoubleMatrix1D l_rows = l_return.get( 0 ).raw();
+        final DoubleMatrix1D l_columns = l_return.get( 1 ).raw();
+        Assertions.assertEquals( 90, l_rows.size() );
+        Assertions.assertEquals( 140, l_columns.size() );
+
+        IntStream.range( 0, 90 ).forEach( r -> Assertions.assertEquals(
+            IntStream.range( 0, 140 ).filter( c -> l_matrix.getQuick( c, r ) ).count(), (long) l_rows.getQuick( r )
+        ) );
+        IntStream.range( 0, 140 ).forEach( c -> Assertions.assertEquals(
+            IntStream.range( 0, 90 ).filter( r -> l_matrix.getQuick( c, r ) ).count(), (long) l_columns.getQuick( c )
+        ) );
+    }
+
     /**
      * test set
      */
@@ -0,0 +1,463 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.bit;
+
+import cern.colt.matrix.tbit.BitMatrix;
+import cern.colt.matrix.tbit.BitVector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.bit.matrix.CColumn;
+import org.lightjason.agentspeak.action.bit.matrix.CRow;
+import org.lightjason.agentspeak.action.bit.storage.CBinary;
+import org.lightjason.agentspeak.action.bit.storage.CHeader;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitMatrix;
+import org.lightjason.agentspeak.action.bit.storage.CMappedBitVector;
+import org.lightjason.agentspeak.action.bit.vector.CAnd;
+import org.lightjason.agentspeak.action.bit.vector.CBoolValue;
+import org.lightjason.agentspeak.action.bit.vector.CClear;
+import org.lightjason.agentspeak.action.bit.vector.CCopy;
+import org.lightjason.agentspeak.action.bit.vector.CCountRange;
+import org.lightjason.agentspeak.action.bit.vector.CFlipRange;
+import org.lightjason.agentspeak.action.bit.vector.CHammingDistance;
+import org.lightjason.agentspeak.action.bit.vector.CLambdaStreaming;
+import org.lightjason.agentspeak.action.bit.vector.CLoad;
+import org.lightjason.agentspeak.action.bit.vector.CMap;
+import org.lightjason.agentspeak.action.bit.vector.CNot;
+import org.lightjason.agentspeak.action.bit.vector.COr;
+import org.lightjason.agentspeak.action.bit.vector.CRange;
+import org.lightjason.agentspeak.action.bit.vector.CSave;
+import org.lightjason.agentspeak.action.bit.vector.CSet;
+import org.lightjason.agentspeak.action.bit.vector.CSetRange;
+import org.lightjason.agentspeak.action.bit.vector.CSize;
+import org.lightjason.agentspeak.action.bit.vector.CToBlas;
+import org.lightjason.agentspeak.action.bit.vector.CToList;
+import org.lightjason.agentspeak.action.bit.vector.CTrueCount;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test bit storage actions
+ */
+public final class TestCActionMathBitStorage extends IBaseTest
+{
+    /**
+     * creates a temporary file name
+     *
+     * @return path of a not existing file
+     * @throws IOException on file error
+     */
+    private static Path file() throws IOException
+    {
+        final Path l_path = Files.createTempFile( "bit", ".bit" );
+        Files.delete( l_path );
+        l_path.toFile().deleteOnExit();
+        return l_path;
+    }
+
+    /**
+     * test mapped vector with operators
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void mappedvector() throws IOException
+    {
+        final Path l_path = file();
+        final Random l_random = new Random( 17 );
+        final BitVector l_dense = new BitVector( 100003 );
+        final BitVector l_source = new BitVector( 100003 );
+        IntStream.range( 0, 3000 ).forEach( i -> l_source.set( l_random.nextInt( 100003 ) ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMap().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_path.toString(), 100003 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final CMappedBitVector l_mapped = l_return.get( 0 ).raw();
+        IntStream.range( 0, 3000 ).map( i -> l_random.nextInt( 100003 ) ).forEach( i ->
+        {
+            l_mapped.put( i, true );
+            l_dense.set( i );
+        } );
+
+        new COr().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_source, l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CNot().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CAnd().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( l_dense, l_mapped.part( 0, 100003 ) );
+
+        new CTrueCount().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CHammingDistance().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_mapped, l_source ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final BitVector l_xor = l_dense.copy();
+        l_xor.xor( l_source );
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( (double) l_dense.cardinality(), l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( (double) l_dense.cardinality(), l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( (double) l_xor.cardinality(), l_return.get( 3 ).<Number>raw() );
+
+        l_mapped.flush();
+        final CMappedBitVector l_reopen = CMappedBitVector.open( l_path );
+        Assertions.assertEquals( 100003, l_reopen.size() );
+        Assertions.assertEquals( l_dense, l_reopen.part( 0, 100003 ) );
+        Assertions.assertEquals( l_dense.partFromTo( 77, 77 + 4999 ), l_reopen.part( 77, 5000 ) );
+    }
+
+    /**
+     * test mapped vector with all vector actions
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void mappedvectoractions() throws IOException
+    {
+        final Random l_random = new Random( 31 );
+        final BitVector l_dense = new BitVector( 3000 );
+        final CMappedBitVector l_mapped = CMappedBitVector.open( file(), 3000 );
+        IntStream.range( 0, 500 ).map( i -> l_random.nextInt( 3000 ) ).forEach( i ->
+        {
+            l_mapped.put( i, true );
+            l_dense.set( i );
+        } );
+
+        Stream.of( l_mapped, l_dense ).forEach( i ->
+        {
+            execute( new CSet(), i, true, 5, 2999 );
+            execute( new CSetRange(), i, 100, 1999 );
+            execute( new CFlipRange(), i, 10, 70 );
+        } );
+        execute( new CClear(), l_mapped, l_dense, 7, 100 );
+
+        Assertions.assertEquals( l_dense, l_mapped.part( 0, 3000 ) );
+        Assertions.assertEquals( 3000, execute( new CSize(), l_mapped ).get( 0 ).<Number>raw() );
+        Assertions.assertEquals( l_dense, execute( new CCopy(), l_mapped ).get( 0 ).<BitVector>raw() );
+        Assertions.assertEquals( l_dense.partFromTo( 10, 100 ), execute( new CRange(), l_mapped, 10, 100 ).get( 0 ).<BitVector>raw() );
+        Assertions.assertEquals( (double) l_dense.cardinality(), execute( new CCountRange(), l_mapped, 0, 2999 ).get( 0 ).<Number>raw() );
+        Assertions.assertArrayEquals(
+            execute( new CBoolValue(), l_dense, 5, 7, 2999 ).stream().map( ITerm::raw ).toArray(),
+            execute( new CBoolValue(), l_mapped, 5, 7, 2999 ).stream().map( ITerm::raw ).toArray()
+        );
+        Assertions.assertArrayEquals( execute( new CToList(), l_dense, "words" ).get( 0 ).<long[]>raw(), execute( new CToList(), l_mapped, "words" ).get( 0 ).<long[]>raw() );
+        Assertions.assertEquals( execute( new CToList(), l_dense ).get( 0 ).<List<?>>raw(), execute( new CToList(), l_mapped, "view" ).get( 0 ).<List<?>>raw() );
+        Assertions.assertEquals( execute( new CToBlas(), l_dense, "sparse" ).get( 0 ).<Object>raw(), execute( new CToBlas(), l_mapped, "sparse" ).get( 0 ).<Object>raw() );
+        Assertions.assertArrayEquals( new CLambdaStreaming().apply( l_dense ).toArray(), new CLambdaStreaming().apply( l_mapped ).toArray() );
+    }
+
+    /**
+     * executes an action
+     *
+     * @param p_action action
+     * @param p_arguments arguments
+     * @return return arguments
+     */
+    private static List<ITerm> execute( final IAction p_action, final Object... p_arguments )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        p_action.execute( false, IContext.EMPTYPLAN, Arrays.stream( p_arguments ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        return l_return;
+    }
+
+    /**
+     * test mapped matrix with row and column
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void mappedmatrix() throws IOException
+    {
+        final Random l_random = new Random( 23 );
+        final BitMatrix l_dense = new BitMatrix( 100, 70 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new org.lightjason.agentspeak.action.bit.matrix.CMap().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( file().toString(), 100, 70 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final CMappedBitMatrix l_mapped = l_return.get( 0 ).raw();
+        IntStream.range( 0, 1000 ).forEach( i ->
+        {
+            final int l_column = l_random.nextInt( 100 );
+            final int l_row = l_random.nextInt( 70 );
+            l_mapped.put( l_column, l_row, true );
+            l_dense.putQuick( l_column, l_row, true );
+        } );
+
+        new CRow().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 13, l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CColumn().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 42, l_mapped, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertEquals( l_return.get( 2 ).<BitVector>raw(), l_return.get( 1 ).<BitVector>raw() );
+        Assertions.assertEquals( l_return.get( 4 ).<BitVector>raw(), l_return.get( 3 ).<BitVector>raw() );
+        Assertions.assertEquals( l_dense.cardinality(), l_mapped.cardinality() );
+    }
+
+    /**
+     * test mapped matrix with operators
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void mappedmatrixactions() throws IOException
+    {
+        final Random l_random = new Random( 47 );
+        final BitMatrix l_dense = new BitMatrix( 100, 70 );
+        final BitMatrix l_source = new BitMatrix( 100, 70 );
+        final CMappedBitMatrix l_mapped = CMappedBitMatrix.open( file(), 100, 70 );
+        IntStream.range( 0, 1000 ).forEach( i ->
+        {
+            final int l_column = l_random.nextInt( 100 );
+            final int l_row = l_random.nextInt( 70 );
+            l_mapped.put( l_column, l_row, true );
+            l_dense.putQuick( l_column, l_row, true );
+            l_source.putQuick( l_random.nextInt( 100 ), l_random.nextInt( 70 ), true );
+        } );
+
+        execute( new org.lightjason.agentspeak.action.bit.matrix.CXor(), l_source, l_mapped, l_dense );
+        execute( new org.lightjason.agentspeak.action.bit.matrix.CNot(), l_mapped, l_dense );
+        Stream.of( l_mapped, l_dense ).forEach( i -> execute( new org.lightjason.agentspeak.action.bit.matrix.CSet(), i, true, 3, 4, 99, 69 ) );
+
+        Assertions.assertEquals( l_dense, CMatrixAccessor.dense( l_mapped ) );
+        Assertions.assertEquals(
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CHammingDistance(), l_source, l_dense ).get( 0 ).<Number>raw(),
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CHammingDistance(), l_source, l_mapped ).get( 0 ).<Number>raw()
+        );
+        Assertions.assertArrayEquals(
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CBoolValue(), l_dense, 4, 3, 5, 7 ).stream().map( ITerm::raw ).toArray(),
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CBoolValue(), l_mapped, 4, 3, 5, 7 ).stream().map( ITerm::raw ).toArray()
+        );
+        Assertions.assertEquals(
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CToBlas(), l_dense, "dense" ).get( 0 ).<Object>raw(),
+            execute( new org.lightjason.agentspeak.action.bit.matrix.CToBlas(), l_mapped, "dense" ).get( 0 ).<Object>raw()
+        );
+        Assertions.assertArrayEquals(
+            new org.lightjason.agentspeak.action.bit.matrix.CLambdaStreaming().apply( l_dense ).toArray(),
+            new org.lightjason.agentspeak.action.bit.matrix.CLambdaStreaming().apply( l_mapped ).toArray()
+        );
+        Assertions.assertArrayEquals(
+            new org.lightjason.agentspeak.action.bit.matrix.CLambdaCellStreaming().apply(
+                execute( new org.lightjason.agentspeak.action.bit.matrix.CCells(), l_dense ).get( 0 ).raw()
+            ).toArray(),
+            new org.lightjason.agentspeak.action.bit.matrix.CLambdaCellStreaming().apply(
+                execute( new org.lightjason.agentspeak.action.bit.matrix.CCells(), l_mapped ).get( 0 ).raw()
+            ).toArray()
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> execute( new org.lightjason.agentspeak.action.bit.matrix.CAnd(), new BitMatrix( 70, 100 ), l_mapped )
+        );
+    }
+
+    /**
+     * test save and load of vectors with and
+     * without compression, an uncompressed
+     * single vector can be mapped
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void saveloadvector() throws IOException
+    {
+        final Random l_random = new Random( 31 );
+        final BitVector l_sparse = new BitVector( 100003 );
+        IntStream.range( 0, 100 ).forEach( i -> l_sparse.set( l_random.nextInt( 100003 ) ) );
+        final BitVector l_dense = new BitVector( 3000 );
+        IntStream.range( 0, 3000 ).filter( i -> l_random.nextBoolean() ).forEach( l_dense::set );
+        final BitVector l_not = l_sparse.copy();
+        l_not.not();
+
+        final Path l_single = file();
+        final Path l_compressed = file();
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_single.toString(), l_not ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_compressed.toString(), l_sparse, l_dense, l_not, true ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_single.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_compressed.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( l_not, l_return.get( 0 ).raw() );
+        Assertions.assertEquals( l_sparse, l_return.get( 1 ).raw() );
+        Assertions.assertEquals( l_dense, l_return.get( 2 ).raw() );
+        Assertions.assertEquals( l_not, l_return.get( 3 ).raw() );
+        Assertions.assertTrue( Files.size( l_compressed ) < Files.size( l_single ) );
+        Assertions.assertEquals( l_not, CMappedBitVector.open( l_single ).part( 0, 100003 ) );
+    }
+
+    /**
+     * test save and load of matrices
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void saveloadmatrix() throws IOException
+    {
+        final Random l_random = new Random( 37 );
+        final BitMatrix l_matrix = new BitMatrix( 130, 17 );
+        IntStream.range( 0, 500 ).forEach( i -> l_matrix.putQuick( l_random.nextInt( 130 ), l_random.nextInt( 17 ), true ) );
+
+        final Path l_path = file();
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new org.lightjason.agentspeak.action.bit.matrix.CSave().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_path.toString(), l_matrix, true ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new org.lightjason.agentspeak.action.bit.matrix.CLoad().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_path.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( l_matrix, l_return.get( 0 ).raw() );
+
+        Assertions.assertThrows(
+            CExecutionIllegalStateException.class,
+            () -> new CLoad().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_path.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
+    /**
+     * test map error
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void maperror() throws IOException
+    {
+        final Path l_path = file();
+
+        Assertions.assertThrows(
+            CExecutionIllegalStateException.class,
+            () -> new CMap().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_path.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+
+        CMappedBitVector.open( l_path, 64 );
+        Assertions.assertThrows( IOException.class, () -> CMappedBitVector.open( l_path, 65 ) );
+        Assertions.assertThrows( IOException.class, () -> CMappedBitMatrix.open( l_path ) );
+    }
+
+    /**
+     * test reading a compressed block with a wrong size
+     *
+     * @throws IOException on stream error
+     */
+    @Test
+    public void compressedblockerror() throws IOException
+    {
+        final BitVector l_vector = new BitVector( 3000 );
+        l_vector.set( 17 );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        CBinary.write( Channels.newChannel( l_output ), l_vector, true );
+        final byte[] l_bytes = l_output.toByteArray();
+        Assertions.assertEquals( l_vector, CBinary.vector( Channels.newChannel( new ByteArrayInputStream( l_bytes ) ) ) );
+
+        ByteBuffer.wrap( l_bytes ).order( CHeader.ORDER ).putInt( CHeader.SIZE, Integer.MAX_VALUE );
+        Assertions.assertThrows( IOException.class, () -> CBinary.vector( Channels.newChannel( new ByteArrayInputStream( l_bytes ) ) ) );
+
+        ByteBuffer.wrap( l_bytes ).order( CHeader.ORDER ).putInt( CHeader.SIZE, -1 );
+        Assertions.assertThrows( IOException.class, () -> CBinary.vector( Channels.newChannel( new ByteArrayInputStream( l_bytes ) ) ) );
+    }
+
+}
@@ -25,26 +25,42 @@ package org.lightjason.agentspeak.action.bit;
 
 import cern.colt.matrix.tbit.BitVector;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.bit.CBitVectorView;
+import org.lightjason.agentspeak.action.bit.compressed.CCompressedBitVector;
 import org.lightjason.agentspeak.action.bit.vector.CAnd;
 import org.lightjason.agentspeak.action.bit.vector.CBoolValue;
 import org.lightjason.agentspeak.action.bit.vector.CClear;
+import org.lightjason.agentspeak.action.bit.vector.CClearRange;
 import org.lightjason.agentspeak.action.bit.vector.CCopy;
+import org.lightjason.agentspeak.action.bit.vector.CCountRange;
 import org.lightjason.agentspeak.action.bit.vector.CCreate;
 import org.lightjason.agentspeak.action.bit.vector.CFalseCount;
+import org.lightjason.agentspeak.action.bit.vector.CFlipRange;
+import org.lightjason.agentspeak.action.bit.vector.CFromBlas;
 import org.lightjason.agentspeak.action.bit.vector.CHammingDistance;
+import org.lightjason.agentspeak.action.bit.vector.CHammingMatrix;
+import org.lightjason.agentspeak.action.bit.vector.CIndexStream;
+import org.lightjason.agentspeak.action.bit.vector.CIndices;
+import org.lightjason.agentspeak.action.bit.vector.CLambdaIndexStreaming;
 import org.lightjason.agentspeak.action.bit.vector.CLambdaStreaming;
 import org.lightjason.agentspeak.action.bit.vector.CNAnd;
+import org.lightjason.agentspeak.action.bit.vector.CNearest;
 import org.lightjason.agentspeak.action.bit.vector.CNot;
 import org.lightjason.agentspeak.action.bit.vector.CNumericValue;
 import org.lightjason.agentspeak.action.bit.vector.COr;
 import org.lightjason.agentspeak.action.bit.vector.CRange;
+import org.lightjason.agentspeak.action.bit.vector.CRepresentation;
 import org.lightjason.agentspeak.action.bit.vector.CSet;
+import org.lightjason.agentspeak.action.bit.vector.CSetRange;
 import org.lightjason.agentspeak.action.bit.vector.CSize;
 import org.lightjason.agentspeak.action.bit.vector.CToBlas;
 import org.lightjason.agentspeak.action.bit.vector.CToList;
@@ -63,6 +79,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -198,6 +215,117 @@ public final class TestCActionMathBitVector extends IBaseTest
         Assertions.assertEquals( 3, l_return.get( 0 ).<BitVector>raw().size() );
     }
 
+    /**
+     * test create with representation
+     */
+    @Test
+    public void createrepresentation()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, "sparse", 5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<CCompressedBitVector>raw().size() );
+        Assertions.assertEquals( 5, l_return.get( 1 ).<CCompressedBitVector>raw().size() );
+    }
+
+    /**
+     * test representation by hint and density
+     */
+    @Test
+    public void representation()
+    {
+        final BitVector l_sparse = new BitVector( 1000 );
+        l_sparse.set( 7 );
+        final BitVector l_dense = new BitVector( 1000 );
+        l_dense.not();
+        final CCompressedBitVector l_compressed = CCompressedBitVector.of( l_dense );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRepresentation().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_sparse, l_dense, l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CRepresentation().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "sparse", l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( l_sparse, l_return.get( 0 ).<CCompressedBitVector>raw().toBitVector() );
+        Assertions.assertSame( l_dense, l_return.get( 1 ).raw() );
+        Assertions.assertEquals( l_dense, l_return.get( 2 ).<BitVector>raw() );
+        Assertions.assertEquals( 1000, l_return.get( 3 ).<CCompressedBitVector>raw().cardinality() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CRepresentation().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "dense", new CBitVectorView( l_dense, 0, 9 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
+    }
+
+    /**
+     * test vector actions on compressed vectors
+     */
+    @Test
+    public void compressedactions()
+    {
+        final Random l_random = new Random( 83 );
+        final BitVector l_expected = new BitVector( 200000 );
+        IntStream.range( 0, 200000 ).filter( i -> l_random.nextInt( 3 ) == 0 ).forEach( l_expected::set );
+        final CCompressedBitVector l_compressed = CCompressedBitVector.of( l_expected );
+        final List<Integer> l_indices = IntStream.range( 0, 500 ).mapToObj( i -> l_random.nextInt( 200000 ) ).collect( Collectors.toList() );
+
+        new CSet().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, true, l_indices ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        new CClear().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, 3, 70000 ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        new CFlipRange().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, 60000, 140000 ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        l_indices.forEach( l_expected::set );
+        l_expected.clear( 3 );
+        l_expected.clear( 70000 );
+        IntStream.rangeClosed( 60000, 140000 ).forEach( i -> l_expected.put( i, !l_expected.getQuick( i ) ) );
+        Assertions.assertEquals( l_expected, l_compressed.toBitVector() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CSize().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CTrueCount().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CCountRange().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, 1000, 190000 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CBoolValue().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, 3, l_indices.get( 0 ) ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CHammingDistance().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, l_expected ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CCopy().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertEquals( 200000, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( (double) l_expected.cardinality(), l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( IntStream.rangeClosed( 1000, 190000 ).filter( l_expected::getQuick ).count(), l_return.get( 2 ).<Number>raw().longValue() );
+        Assertions.assertEquals( l_expected.getQuick( 3 ), l_return.get( 3 ).raw() );
+        Assertions.assertEquals( l_expected.getQuick( l_indices.get( 0 ) ), l_return.get( 4 ).raw() );
+        Assertions.assertEquals( 0D, l_return.get( 5 ).<Number>raw() );
+        Assertions.assertEquals( l_expected, l_return.get( 6 ).<CCompressedBitVector>raw().toBitVector() );
+
+        final BitVector l_source = new BitVector( 200000 );
+        IntStream.range( 0, 200000 ).filter( i -> l_random.nextInt( 2 ) == 0 ).forEach( l_source::set );
+        final BitVector l_dense = l_source.copy();
+        new CXor().execute( false, IContext.EMPTYPLAN, Stream.of( l_compressed, l_dense ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        new CNAnd().execute( false, IContext.EMPTYPLAN, Stream.of( l_source, l_compressed ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+
+        final BitVector l_xor = l_source.copy();
+        l_xor.xor( l_expected );
+        l_expected.andNot( l_source );
+        Assertions.assertEquals( l_xor, l_dense );
+        Assertions.assertEquals( l_expected, l_compressed.toBitVector() );
+
+        final CCompressedBitVector l_empty = new CCompressedBitVector( 200000 );
+        new CNot().execute( false, IContext.EMPTYPLAN, Stream.of( l_empty ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        Assertions.assertEquals( 200000, l_empty.cardinality() );
+    }
+
     /**
      * test boolean value
      */
@@ -279,6 +407,125 @@ public final class TestCActionMathBitVector extends IBaseTest
         Assertions.assertEquals( l_vector, l_return.get( 0 ).<BitVector>raw() );
     }
 
+    /**
+     * test range views
+     */
+    @Test
+    public void rangeview()
+    {
+        final Random l_random = new Random( 67 );
+        final BitVector l_vector = new BitVector( 300 );
+        final BitVector l_source = new BitVector( 200 );
+        IntStream.range( 0, 300 ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_vector.putQuick( i, true ) );
+        IntStream.range( 0, 200 ).filter( i -> l_random.nextBoolean() ).forEach( i -> l_source.putQuick( i, true ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRange().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "view", l_vector, 37, 236, 0, 299 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        final CBitVectorView l_view = l_return.get( 0 ).raw();
+        final BitVector l_part = l_vector.partFromTo( 37, 236 );
+        Assertions.assertEquals( l_part, l_view.copy() );
+        Assertions.assertEquals( l_vector, l_return.get( 1 ).<CBitVectorView>raw().copy() );
+
+        l_return.clear();
+        new CSize().execute( false, IContext.EMPTYPLAN, Stream.of( l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CTrueCount().execute( false, IContext.EMPTYPLAN, Stream.of( l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CFalseCount().execute( false, IContext.EMPTYPLAN, Stream.of( l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CHammingDistance().execute( false, IContext.EMPTYPLAN, Stream.of( l_view, l_part ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CCopy().execute( false, IContext.EMPTYPLAN, Stream.of( l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertEquals( 200, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( (double) l_part.cardinality(), l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( 200D - l_part.cardinality(), l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( 0D, l_return.get( 3 ).<Number>raw() );
+        Assertions.assertEquals( l_part, l_return.get( 4 ).<BitVector>raw() );
+
+        final boolean[] l_expected = new boolean[300];
+        IntStream.range( 0, 300 ).forEach( i -> l_expected[i] = l_vector.getQuick( i ) ^ ( i >= 37 && i <= 236 ) );
+        new CNot().execute( false, IContext.EMPTYPLAN, Stream.of( l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        IntStream.range( 0, 300 ).forEach( i -> Assertions.assertEquals( l_expected[i], l_vector.getQuick( i ) ) );
+
+        IntStream.range( 37, 237 ).forEach( i -> l_expected[i] ^= l_source.getQuick( i - 37 ) );
+        new CXor().execute( false, IContext.EMPTYPLAN, Stream.of( l_source, l_view ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        IntStream.range( 0, 300 ).forEach( i -> Assertions.assertEquals( l_expected[i], l_vector.getQuick( i ) ) );
+
+        final BitVector l_target = l_source.copy();
+        new COr().execute( false, IContext.EMPTYPLAN, Stream.of( l_view, l_target ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() );
+        IntStream.range( 0, 200 ).forEach( i -> Assertions.assertEquals( l_source.getQuick( i ) || l_expected[i + 37], l_target.getQuick( i ) ) );
+
+        l_view.put( 0, !l_view.get( 0 ) );
+        Assertions.assertEquals( !l_expected[37], l_vector.getQuick( 37 ) );
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> l_view.get( 200 ) );
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> new CBitVectorView( l_vector, 10, 300 ) );
+    }
+
+    /**
+     * test set, clear and boolvalue on a view
+     * and overlapping arguments of the operators
+     */
+    @Test
+    public void rangeviewindices()
+    {
+        final BitVector l_vector = new BitVector( 300 );
+        final CBitVectorView l_view = new CBitVectorView( l_vector, 37, 236 );
+        final List<Integer> l_indices = Stream.of( 0, 26, 27, 90, 199, 26 ).collect( Collectors.toList() );
+
+        new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_view, true, l_indices ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CClear().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_view, 90 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertArrayEquals(
+            new int[]{37, 63, 64, 236},
+            IntStream.range( 0, 300 ).filter( l_vector::getQuick ).toArray()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CBoolValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_view, 0, 1, 90, 199 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        Assertions.assertArrayEquals( new Object[]{true, false, false, true}, l_return.stream().map( ITerm::raw ).toArray() );
+
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_view, true, 200 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertFalse( l_vector.getQuick( 237 ) );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new COr().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, l_view ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CNot().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_view, new CBitVectorView( l_vector, 200, 299 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+
+        new CNot().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new CBitVectorView( l_vector, 0, 36 ), new CBitVectorView( l_vector, 237, 299 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        Assertions.assertEquals( 100 + 4, l_vector.cardinality() );
+        Assertions.assertEquals( 4, l_view.cardinality() );
+    }
+
     /**
      * test range error
      */
@@ -351,6 +598,149 @@ public final class TestCActionMathBitVector extends IBaseTest
         Assertions.assertArrayEquals( Stream.of( 1D, 0D, 0D ).toArray(), l_return.get( 0 ).<List<?>>raw().toArray() );
     }
 
+    /**
+     * test tolist export types
+     */
+    @Test
+    public void tolisttypes()
+    {
+        final BitVector l_vector = new BitVector( 70 );
+        l_vector.putQuick( 1, true );
+        l_vector.putQuick( 64, true );
+        l_vector.putQuick( 69, true );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Stream.of( "view", "words", "indices" ).forEach( i -> new CToList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertEquals( 3, l_return.size() );
+
+        final List<?> l_view = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 70, l_view.size() );
+        Assertions.assertEquals( 1D, l_view.get( 1 ) );
+        Assertions.assertEquals( 0D, l_view.get( 2 ) );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_view.remove( 0 ) );
+
+        l_vector.putQuick( 2, true );
+        Assertions.assertEquals( 1D, l_view.get( 2 ) );
+
+        Assertions.assertArrayEquals( new long[]{2L, 33L}, l_return.get( 1 ).<long[]>raw() );
+        Assertions.assertArrayEquals( new int[]{1, 64, 69}, l_return.get( 2 ).<int[]>raw() );
+    }
+
+    /**
+     * test bulk set, clear and boolvalue
+     * with unsorted and duplicated indices
+     */
+    @Test
+    public void bulkindices()
+    {
+        final Random l_random = new Random( 59 );
+        final BitVector l_vector = new BitVector( 10000 );
+        final BitVector l_expected = new BitVector( 10000 );
+        final List<Integer> l_set = IntStream.range( 0, 3000 ).mapToObj( i -> l_random.nextInt( 10000 ) ).collect( Collectors.toList() );
+        final List<Integer> l_clear = IntStream.range( 0, 1000 ).mapToObj( i -> l_random.nextInt( 10000 ) ).collect( Collectors.toList() );
+        l_set.forEach( i -> l_expected.put( i, true ) );
+        l_clear.forEach( l_expected::clear );
+
+        new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, true, l_set ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        new CClear().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, l_clear ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( l_expected, l_vector );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CBoolValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, l_set ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            l_set.stream().map( l_expected::getQuick ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, 1, 10000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertThrows( IndexOutOfBoundsException.class, () -> new CBoolValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, -1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            new ArrayList<>()
+        ) );
+    }
+
+    /**
+     * test set, clear, flip and count ranges
+     */
+    @Test
+    public void ranges()
+    {
+        final Random l_random = new Random( 61 );
+        final BitVector l_vector = new BitVector( 1000 );
+        final boolean[] l_expected = new boolean[1000];
+
+        for ( int n = 0; n < 200; n++ )
+        {
+            final int l_from = l_random.nextInt( 1000 );
+            final int l_to = Math.min( 999, l_from - 1 + l_random.nextInt( n % 2 == 0 ? 70 : 500 ) );
+            final int l_type = l_random.nextInt( 3 );
+            final List<ITerm> l_return = new ArrayList<>();
+
+            new CCountRange().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_vector, l_from, l_to ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+            Assertions.assertEquals(
+                (double) IntStream.rangeClosed( l_from, l_to ).filter( i -> l_expected[i] ).count(),
+                l_return.get( 0 ).<Number>raw()
+            );
+
+            ( l_type == 0 ? new CSetRange() : l_type == 1 ? new CClearRange() : new CFlipRange() ).execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_vector, l_from, l_to ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            );
+            IntStream.rangeClosed( l_from, l_to ).forEach( i -> l_expected[i] = l_type == 0 || l_type == 2 && !l_expected[i] );
+
+            IntStream.range( 0, 1000 ).forEach( i -> Assertions.assertEquals( l_expected[i], l_vector.getQuick( i ) ) );
+        }
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CSetRange().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, 1, 2, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CFlipRange().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, 10, 1000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+
+        final BitVector l_copy = l_vector.copy();
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CFlipRange().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, 0, 999, 5, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+        Assertions.assertEquals( l_copy, l_vector );
+    }
+
     /**
      * test toblas
      */
@@ -382,6 +772,45 @@ public final class TestCActionMathBitVector extends IBaseTest
         Assertions.assertArrayEquals( Stream.of( 0, 0, 1 ).mapToDouble( i -> i ).toArray(), l_return.get( 1 ).<DoubleMatrix1D>raw().toArray(), 0 );
     }
 
+    /**
+     * test fromblas
+     */
+    @Test
+    public void fromblas()
+    {
+        final DenseDoubleMatrix1D l_dense = new DenseDoubleMatrix1D( new double[]{0, 0.7, -2, 0.3, 1} );
+        final SparseDoubleMatrix1D l_sparse = new SparseDoubleMatrix1D( 100000 );
+        l_sparse.setQuick( 5, 1 );
+        l_sparse.setQuick( 99999, -3 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CFromBlas().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_dense, l_sparse ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CFromBlas().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_dense, 0.5, l_sparse.viewPart( 0, 10 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CFromBlas().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_sparse, -1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertEquals( "{1, 2, 3, 4}", l_return.get( 0 ).raw().toString() );
+        Assertions.assertEquals( "{5, 99999}", l_return.get( 1 ).raw().toString() );
+        Assertions.assertEquals( "{1, 4}", l_return.get( 2 ).raw().toString() );
+        Assertions.assertEquals( "{5}", l_return.get( 3 ).raw().toString() );
+        Assertions.assertEquals( 99999, l_return.get( 4 ).<BitVector>raw().cardinality() );
+        Assertions.assertFalse( l_return.get( 4 ).<BitVector>raw().getQuick( 99999 ) );
+    }
+
     /**
      * test lambda streaming assignable
      */
@@ -389,6 +818,8 @@ public final class TestCActionMathBitVector extends IBaseTest
     public void lambdaassignable()
     {
         Assertions.assertTrue( new CLambdaStreaming().assignable().collect( Collectors.toSet() ).contains( BitVector.class ) );
+        Assertions.assertTrue( new CLambdaStreaming().assignable().collect( Collectors.toSet() ).contains( CCompressedBitVector.class ) );
+        Assertions.assertFalse( new CLambdaIndexStreaming().assignable().collect( Collectors.toSet() ).contains( BitVector.class ) );
     }
 
     /**
@@ -404,6 +835,119 @@ public final class TestCActionMathBitVector extends IBaseTest
         );
     }
 
+    /**
+     * test lambda streaming of set bit indices
+     */
+    @Test
+    public void lambdaindices()
+    {
+        final BitVector l_vector = initialize( false, true, false, true, true );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CIndices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, CCompressedBitVector.of( l_vector ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of( 1, 3, 4 ).toArray(),
+            new CLambdaIndexStreaming().apply( l_return.get( 0 ).raw() ).toArray()
+        );
+        Assertions.assertArrayEquals(
+            Stream.of( 1, 3, 4 ).toArray(),
+            new CLambdaIndexStreaming().apply( l_return.get( 1 ).raw() ).toArray()
+        );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CIndices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test parallel lambda streaming
+     * over word boundaries
+     */
+    @Test
+    public void lambdaparallel()
+    {
+        final BitVector l_vector = new BitVector( 100003 );
+        IntStream.range( 0, l_vector.size() ).filter( i -> i % 7 == 0 || i % 64 == 63 ).forEach( i -> l_vector.putQuick( i, true ) );
+        l_vector.elements()[l_vector.elements().length - 1] |= -1L << 35;
+
+        Assertions.assertEquals( l_vector.cardinality(), new CLambdaStreaming().apply( l_vector ).parallel().mapToInt( i -> (Integer) i ).sum() );
+        Assertions.assertEquals( l_vector.size(), new CLambdaStreaming().apply( l_vector ).parallel().count() );
+        Assertions.assertArrayEquals(
+            IntStream.range( 0, l_vector.size() ).filter( l_vector::getQuick ).toArray(),
+            new CLambdaIndexStreaming().apply( new CIndexStream( l_vector ) ).parallel().mapToInt( i -> (Integer) i ).toArray()
+        );
+
+        // compressed vectors and views are streamed in word blocks
+        final CCompressedBitVector l_compressed = CCompressedBitVector.of( l_vector );
+        final CBitVectorView l_view = new CBitVectorView( l_vector, 5, 100002 );
+        Assertions.assertArrayEquals(
+            new CLambdaStreaming().apply( l_vector ).toArray(),
+            new CLambdaStreaming().apply( l_compressed ).toArray()
+        );
+        Assertions.assertArrayEquals(
+            IntStream.range( 5, l_vector.size() ).filter( l_vector::getQuick ).map( i -> i - 5 ).toArray(),
+            new CLambdaIndexStreaming().apply( new CIndexStream( l_view ) ).mapToInt( i -> (Integer) i ).toArray()
+        );
+    }
+
+    /**
+     * test operator with multiple targets
+     * over multiple word blocks
+     */
+    @Test
+    public void operatorblocks()
+    {
+        final BitVector l_source = new BitVector( 100000 );
+        final BitVector l_target1 = new BitVector( 100000 );
+        final BitVector l_target2 = new BitVector( 70000 );
+        IntStream.range( 0, l_source.size() ).filter( i -> i % 3 == 0 ).forEach( l_source::set );
+        IntStream.range( 0, l_target1.size() ).filter( i -> i % 5 == 0 ).forEach( l_target1::set );
+        IntStream.range( 0, l_target2.size() ).filter( i -> i % 7 == 0 ).forEach( l_target2::set );
+
+        final BitVector l_result1 = l_target1.copy();
+        final BitVector l_result2 = l_target2.copy();
+        l_result1.and( l_source );
+        l_result2.and( l_source );
+
+        new CAnd().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_source, l_target1, l_target2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( l_result1, l_target1 );
+        Assertions.assertEquals( l_result2, l_target2 );
+    }
+
+    /**
+     * test hamming distance with
+     * undefined bits within the last word
+     */
+    @Test
+    public void hammingdistancetail()
+    {
+        final BitVector l_vector1 = initialize( true, false, false );
+        final BitVector l_vector2 = l_vector1.copy();
+        final List<ITerm> l_return = new ArrayList<>();
+        l_vector2.not();
+
+        new CHammingDistance().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector1, l_vector2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( 3D, l_return.get( 0 ).<Number>raw() );
+    }
+
     /**
      * test hamming distance
      */
@@ -420,4 +964,106 @@ public final class TestCActionMathBitVector extends IBaseTest
         );
     }
 
+    /**
+     * test hamming matrix
+     */
+    @Test
+    public void hammingmatrix()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CHammingMatrix().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                initialize( true, false, false ),
+                initialize( false, false, true ),
+                initialize( true, true, true )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertArrayEquals(
+            new double[][]{{0, 2, 2}, {2, 0, 2}, {2, 2, 0}},
+            l_return.get( 0 ).<DoubleMatrix2D>raw().toArray()
+        );
+    }
+
+    /**
+     * test hamming matrix error
+     */
+    @Test
+    public void hammingmatrixerror()
+    {
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CHammingMatrix().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( initialize( true ), initialize( true, false ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+
+        final BitVector l_vector = initialize( true );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CHammingMatrix().execute(
+                false, IContext.EMPTYPLAN,
+                IntStream.range( 0, 46341 ).mapToObj( i -> CRawTerm.of( l_vector ) ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        );
+    }
+
+    /**
+     * test nearest
+     */
+    @Test
+    public void nearest()
+    {
+        final BitVector l_candidate1 = initialize( true, true, true, true );
+        final BitVector l_candidate2 = initialize( true, false, false, true );
+        final BitVector l_candidate3 = initialize( true, false, true, true );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CNearest().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, initialize( true, false, false, false ), l_candidate1, l_candidate2, l_candidate3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( l_candidate2, 1D, l_candidate3, 2D ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * test nearest with a large and a negative number of neighbours
+     */
+    @Test
+    public void nearestcount()
+    {
+        final BitVector l_candidate1 = initialize( true, true, true, true );
+        final BitVector l_candidate2 = initialize( true, false, false, true );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CNearest().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( Integer.MAX_VALUE, initialize( true, false, false, false ), l_candidate1, l_candidate2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( l_candidate2, 1D, l_candidate1, 3D ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CNearest().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( -1, l_candidate1, l_candidate2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
 }